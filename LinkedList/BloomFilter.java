@@ -0,0 +1,60 @@
+package LinkedList;
+
+// Fixed-size Bloom filter over int hash codes or long keys. It can answer "definitely not
+// added before" exactly and "maybe added before" with a small false-positive rate, in a
+// bit array whose size does not depend on how many values go through it.
+class BloomFilter {
+    
+    // Largest filter: 2^30 bits (128 MB)
+    private static final int MAX_BITS = 1 << 30;
+    // More probes than this stop paying off and only cost time
+    private static final int MAX_HASHES = 8;
+    
+    private final long[] bits;
+    private final int mask;
+    private final int hashes;
+    
+    // A filter of at most sizeBytes bytes (rounded down to a power of two), with the number
+    // of probes per value tuned for expectedValues values
+    BloomFilter(long sizeBytes, int expectedValues) {
+        long wanted = Math.min(Math.max(sizeBytes * 8, 64), MAX_BITS);
+        int bitCount = Integer.highestOneBit((int) wanted);
+        
+        this.bits = new long[bitCount / 64];
+        this.mask = bitCount - 1;
+        
+        // The false-positive rate is lowest at (bits / values) * ln 2 probes
+        double optimal = (double) bitCount / Math.max(1, expectedValues) * Math.log(2);
+        this.hashes = (int) Math.max(1, Math.min(MAX_HASHES, Math.round(optimal)));
+    }
+    
+    // Add a value by its hash code (or, for long and double values, by all 64 bits); returns
+    // true if it may have been added before (all of its bits were already set), false if it
+    // certainly was not
+    boolean add(long key) {
+        // Double hashing: probe i looks at h1 + i * h2, both taken from one 64-bit mix
+        long z = mix(key);
+        int h1 = (int) z;
+        int h2 = (int) (z >>> 32) | 1;
+        
+        boolean present = true;
+        for (int i = 0; i < hashes; i++) {
+            int bit = (h1 + i * h2) & mask;
+            long word = bits[bit >>> 6];
+            long flag = 1L << bit;
+            if ((word & flag) == 0) {
+                present = false;
+                bits[bit >>> 6] = word | flag;
+            }
+        }
+        return present;
+    }
+    
+    // SplitMix64 finalizer: every input bit affects every output bit
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,295 @@
+package LinkedList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+
+// Lock-free sorted set built as a Harris-Michael linked list. Every next pointer
+// carries a "deleted" mark that is CASed together with the reference:
+// deleting a node first marks its next pointer (logical delete), then unlinks it
+// (physical delete). Any thread that walks past a marked node helps unlink it.
+// contains() never writes and never retries, so reads are wait-free.
+public class ConcurrentGenericLinkedList<T extends Comparable<? super T>> {
+    
+    // Node class to represent individual elements
+    private static class Node<T> {
+        final T data;
+        final AtomicMarkableReference<Node<T>> next;
+        
+        Node(T data, Node<T> next) {
+            this.data = data;
+            this.next = new AtomicMarkableReference<>(next, false);
+        }
+    }
+    
+    // Sentinel in front of the first element; its data is never read
+    private final Node<T> head;
+    private final AtomicInteger size;
+    
+    // Result of find(): the last node before the key and the first node at or after it
+    private static class Window<T> {
+        final Node<T> pred;
+        final Node<T> curr;
+        
+        Window(Node<T> pred, Node<T> curr) {
+            this.pred = pred;
+            this.curr = curr;
+        }
+    }
+    
+    // Constructor
+    public ConcurrentGenericLinkedList() {
+        this.head = new Node<>(null, null);
+        this.size = new AtomicInteger();
+    }
+    
+    // Insert a value in sorted position; returns false if it is already present
+    public boolean insert(T value) {
+        checkNotNull(value);
+        
+        while (true) {
+            Window<T> window = find(value);
+            Node<T> curr = window.curr;
+            
+            if (curr != null && curr.data.compareTo(value) == 0) {
+                return false;
+            }
+            
+            Node<T> newNode = new Node<>(value, curr);
+            if (window.pred.next.compareAndSet(curr, newNode, false, false)) {
+                size.incrementAndGet();
+                return true;
+            }
+        }
+    }
+    
+    // Delete a value; returns false if it is not present
+    public boolean deleteByValue(T value) {
+        checkNotNull(value);
+        
+        while (true) {
+            Window<T> window = find(value);
+            Node<T> curr = window.curr;
+            
+            if (curr == null || curr.data.compareTo(value) != 0) {
+                return false;
+            }
+            
+            // Logical delete: the linearization point is the successful mark
+            Node<T> succ = curr.next.getReference();
+            if (!curr.next.compareAndSet(succ, succ, false, true)) {
+                continue;
+            }
+            size.decrementAndGet();
+            
+            // Physical delete; if it fails, a later find() will finish the job
+            window.pred.next.compareAndSet(curr, succ, false, false);
+            return true;
+        }
+    }
+    
+    // Check if the set contains a value (wait-free: one pass, no writes, no retries)
+    public boolean contains(T value) {
+        checkNotNull(value);
+        
+        Node<T> curr = head.next.getReference();
+        while (curr != null && curr.data.compareTo(value) < 0) {
+            curr = curr.next.getReference();
+        }
+        
+        return curr != null && curr.data.compareTo(value) == 0 && !curr.next.isMarked();
+    }
+    
+    // Search for a value and return its position among the live elements.
+    // Under concurrent updates the position is only a best-effort snapshot.
+    public int search(T value) {
+        checkNotNull(value);
+        
+        int index = 0;
+        for (Node<T> curr = head.next.getReference(); curr != null; curr = curr.next.getReference()) {
+            if (curr.next.isMarked()) {
+                continue;
+            }
+            
+            int comparison = curr.data.compareTo(value);
+            if (comparison == 0) {
+                return index;
+            }
+            if (comparison > 0) {
+                break;
+            }
+            index++;
+        }
+        
+        return -1; // Not found
+    }
+    
+    // Get the number of elements (exact when no updates are in flight)
+    public int size() {
+        return size.get();
+    }
+    
+    // Check if set is empty
+    public boolean isEmpty() {
+        return size.get() == 0;
+    }
+    
+    // Copy the live elements, in order, into an array (weakly consistent)
+    public Object[] toArray() {
+        List<T> elements = new ArrayList<>();
+        for (Node<T> curr = head.next.getReference(); curr != null; curr = curr.next.getReference()) {
+            if (!curr.next.isMarked()) {
+                elements.add(curr.data);
+            }
+        }
+        return elements.toArray();
+    }
+    
+    // Override toString method
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        
+        for (Object element : toArray()) {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(element);
+        }
+        
+        sb.append("]");
+        return sb.toString();
+    }
+    
+    // Find the window around value, unlinking any marked nodes on the way
+    private Window<T> find(T value) {
+        boolean[] marked = {false};
+        
+        retry:
+        while (true) {
+            Node<T> pred = head;
+            Node<T> curr = pred.next.getReference();
+            
+            while (true) {
+                if (curr == null) {
+                    return new Window<>(pred, null);
+                }
+                
+                Node<T> succ = curr.next.get(marked);
+                while (marked[0]) {
+                    if (!pred.next.compareAndSet(curr, succ, false, false)) {
+                        continue retry;
+                    }
+                    curr = succ;
+                    if (curr == null) {
+                        return new Window<>(pred, null);
+                    }
+                    succ = curr.next.get(marked);
+                }
+                
+                if (curr.data.compareTo(value) >= 0) {
+                    return new Window<>(pred, curr);
+                }
+                pred = curr;
+                curr = succ;
+            }
+        }
+    }
+    
+    private static void checkNotNull(Object value) {
+        if (value == null) {
+            throw new NullPointerException("Null elements are not supported");
+        }
+    }
+    
+    // Main method for testing: a basic walkthrough, then a multi-threaded stress test
+    public static void main(String[] args) throws InterruptedException {
+        ConcurrentGenericLinkedList<Integer> set = new ConcurrentGenericLinkedList<>();
+        
+        // Test insertions
+        set.insert(20);
+        set.insert(5);
+        set.insert(15);
+        System.out.println("Insert 10: " + set.insert(10));
+        System.out.println("Insert 10 again: " + set.insert(10));
+        System.out.println("After insertions: " + set);
+        
+        // Test search and deletion
+        System.out.println("Search 15: " + set.search(15));
+        System.out.println("Contains 7: " + set.contains(7));
+        System.out.println("Delete 10: " + set.deleteByValue(10));
+        System.out.println("Delete 10 again: " + set.deleteByValue(10));
+        System.out.println("After deletions: " + set + ", size " + set.size());
+        
+        stressTest(8, 200_000, 256);
+    }
+    
+    // Threads insert, delete and look up random keys from a small range so they collide
+    // constantly. Afterwards, each key must be present exactly when its successful inserts
+    // outnumber its successful deletes, and the list must be strictly increasing.
+    private static void stressTest(int threads, int operationsPerThread, int keyRange)
+            throws InterruptedException {
+        ConcurrentGenericLinkedList<Integer> set = new ConcurrentGenericLinkedList<>();
+        AtomicIntegerArray balance = new AtomicIntegerArray(keyRange);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                
+                for (int i = 0; i < operationsPerThread; i++) {
+                    int key = random.nextInt(keyRange);
+                    int operation = random.nextInt(3);
+                    if (operation == 0 && set.insert(key)) {
+                        balance.incrementAndGet(key);
+                    } else if (operation == 1 && set.deleteByValue(key)) {
+                        balance.decrementAndGet(key);
+                    } else {
+                        set.contains(key);
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        
+        long startTime = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        
+        boolean consistent = true;
+        int expectedSize = 0;
+        for (int key = 0; key < keyRange; key++) {
+            int value = balance.get(key);
+            consistent &= (value == 0 || value == 1) && set.contains(key) == (value == 1);
+            expectedSize += value;
+        }
+        
+        Object[] elements = set.toArray();
+        for (int i = 1; i < elements.length; i++) {
+            consistent &= (Integer) elements[i - 1] < (Integer) elements[i];
+        }
+        consistent &= elements.length == expectedSize && set.size() == expectedSize;
+        
+        System.out.println("Stress test: " + threads + " threads x " + operationsPerThread
+                + " operations in " + elapsedMillis + " ms, consistent: " + consistent);
+        if (!consistent) {
+            throw new IllegalStateException("Concurrent list is inconsistent: " + set);
+        }
+    }
+}
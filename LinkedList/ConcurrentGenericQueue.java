@@ -0,0 +1,338 @@
+package LinkedList;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Non-blocking FIFO queue with the head/tail operations of GenericLinkedList,
+// built as a Michael-Scott queue. Producers CAS new nodes onto tail.next and
+// consumers CAS head forward; any thread that finds tail lagging helps advance
+// it, so a stalled thread never blocks the others. offerAll and drainTo move a
+// whole batch with a single CAS each.
+public class ConcurrentGenericQueue<T> {
+    
+    // Node class to represent individual elements
+    private static class Node<T> {
+        T data;
+        volatile Node<T> next;
+        
+        Node(T data) {
+            this.data = data;
+        }
+    }
+    
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+    
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(ConcurrentGenericQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(ConcurrentGenericQueue.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+    
+    // head always points at a dummy node; the first element is head.next
+    private volatile Node<T> head;
+    private volatile Node<T> tail;
+    
+    // Constructor
+    public ConcurrentGenericQueue() {
+        Node<T> dummy = new Node<>(null);
+        this.head = dummy;
+        this.tail = dummy;
+    }
+    
+    // Insert at the end of the queue
+    public void insertAtTail(T data) {
+        checkNotNull(data);
+        Node<T> newNode = new Node<>(data);
+        link(newNode, newNode);
+    }
+    
+    // Insert every element of values at the end of the queue, in order, with one linking CAS
+    public int offerAll(Collection<? extends T> values) {
+        Node<T> first = null;
+        Node<T> last = null;
+        int count = 0;
+        
+        for (T value : values) {
+            checkNotNull(value);
+            Node<T> newNode = new Node<>(value);
+            if (first == null) {
+                first = newNode;
+            } else {
+                last.next = newNode;
+            }
+            last = newNode;
+            count++;
+        }
+        
+        if (first != null) {
+            link(first, last);
+        }
+        return count;
+    }
+    
+    // Delete from the beginning
+    public T deleteFromHead() {
+        T data = pollFromHead();
+        if (data == null) {
+            throw new RuntimeException("List is empty");
+        }
+        return data;
+    }
+    
+    // Delete from the beginning, or return null when the queue is empty
+    public T pollFromHead() {
+        while (true) {
+            Node<T> h = head;
+            Node<T> first = h.next;
+            
+            if (first == null) {
+                return null;
+            }
+            helpAdvanceTail(h, first);
+            
+            if (HEAD.compareAndSet(this, h, first)) {
+                // first is the new dummy; drop its reference to the element
+                T data = first.data;
+                first.data = null;
+                return data;
+            }
+        }
+    }
+    
+    // Move up to maxElements elements from the head of the queue into sink, with one CAS.
+    // Returns the number of elements moved.
+    public int drainTo(Collection<? super T> sink, int maxElements) {
+        if (maxElements <= 0) {
+            return 0;
+        }
+        
+        while (true) {
+            Node<T> h = head;
+            Node<T> first = h.next;
+            
+            if (first == null) {
+                return 0;
+            }
+            helpAdvanceTail(h, first);
+            
+            // Claim the run first .. last by moving head onto last
+            Node<T> last = first;
+            int count = 1;
+            while (count < maxElements && last.next != null) {
+                last = last.next;
+                count++;
+            }
+            
+            if (HEAD.compareAndSet(this, h, last)) {
+                for (Node<T> node = first; ; node = node.next) {
+                    sink.add(node.data);
+                    node.data = null;
+                    if (node == last) {
+                        break;
+                    }
+                }
+                return count;
+            }
+        }
+    }
+    
+    // Get the first element without removing it
+    public T getFirst() {
+        while (true) {
+            Node<T> first = head.next;
+            if (first == null) {
+                throw new RuntimeException("List is empty");
+            }
+            
+            T data = first.data;
+            // data is null only if first was dequeued meanwhile; look again
+            if (data != null) {
+                return data;
+            }
+        }
+    }
+    
+    // Check if queue is empty
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+    
+    // Count the elements by walking the queue (weakly consistent, O(n))
+    public int size() {
+        int count = 0;
+        for (Node<T> node = head.next; node != null && count < Integer.MAX_VALUE; node = node.next) {
+            if (node.data != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    // Override toString method
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        
+        for (Node<T> node = head.next; node != null; node = node.next) {
+            T data = node.data;
+            if (data == null) {
+                continue;
+            }
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(data);
+        }
+        
+        sb.append("]");
+        return sb.toString();
+    }
+    
+    // Append the private chain first .. last after the current tail
+    private void link(Node<T> first, Node<T> last) {
+        while (true) {
+            Node<T> t = tail;
+            Node<T> next = t.next;
+            
+            if (t != tail) {
+                continue;
+            }
+            
+            if (next == null) {
+                if (NEXT.compareAndSet(t, null, first)) {
+                    // Swing tail to the new end; if this fails someone already helped
+                    TAIL.compareAndSet(this, t, last);
+                    return;
+                }
+            } else {
+                // Tail is lagging behind: help the other producer finish
+                TAIL.compareAndSet(this, t, next);
+            }
+        }
+    }
+    
+    // Never let head move past tail: if tail still points at the dummy, push it forward first
+    private void helpAdvanceTail(Node<T> h, Node<T> first) {
+        Node<T> t = tail;
+        if (t == h) {
+            TAIL.compareAndSet(this, t, first);
+        }
+    }
+    
+    private static void checkNotNull(Object value) {
+        if (value == null) {
+            throw new NullPointerException("Null elements are not supported");
+        }
+    }
+    
+    // Main method for testing: a basic walkthrough, then producers and consumers together
+    public static void main(String[] args) throws InterruptedException {
+        ConcurrentGenericQueue<Integer> queue = new ConcurrentGenericQueue<>();
+        
+        // Test insertions
+        queue.insertAtTail(10);
+        queue.insertAtTail(20);
+        queue.offerAll(List.of(30, 40, 50));
+        System.out.println("After insertions: " + queue + ", size " + queue.size());
+        
+        // Test deletions
+        System.out.println("First element: " + queue.getFirst());
+        System.out.println("Deleted from head: " + queue.deleteFromHead());
+        List<Integer> drained = new ArrayList<>();
+        System.out.println("Drained " + queue.drainTo(drained, 3) + " elements: " + drained);
+        System.out.println("After deletions: " + queue);
+        
+        stressTest(8, 8, 250_000);
+    }
+    
+    // Producers enqueue distinct numbers (some one by one, some in batches) while consumers
+    // drain them. Every number must come out exactly once.
+    private static void stressTest(int producers, int consumers, int itemsPerProducer)
+            throws InterruptedException {
+        ConcurrentGenericQueue<Long> queue = new ConcurrentGenericQueue<>();
+        long total = (long) producers * itemsPerProducer;
+        LongAdder consumed = new LongAdder();
+        AtomicLong checksum = new AtomicLong();
+        List<Thread> threads = new ArrayList<>();
+        
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * itemsPerProducer;
+            boolean batched = p % 2 == 0;
+            threads.add(new Thread(() -> {
+                List<Long> batch = new ArrayList<>();
+                for (long i = 0; i < itemsPerProducer; i++) {
+                    if (batched) {
+                        batch.add(base + i);
+                        if (batch.size() == 64) {
+                            queue.offerAll(batch);
+                            batch.clear();
+                        }
+                    } else {
+                        queue.insertAtTail(base + i);
+                    }
+                }
+                queue.offerAll(batch);
+            }));
+        }
+        
+        for (int c = 0; c < consumers; c++) {
+            boolean batched = c % 2 == 0;
+            threads.add(new Thread(() -> {
+                List<Long> batch = new ArrayList<>();
+                long sum = 0;
+                while (consumed.sum() < total) {
+                    if (batched) {
+                        batch.clear();
+                        int count = queue.drainTo(batch, 64);
+                        for (Long value : batch) {
+                            sum += value;
+                        }
+                        consumed.add(count);
+                    } else {
+                        Long value = queue.pollFromHead();
+                        if (value != null) {
+                            sum += value;
+                            consumed.increment();
+                        }
+                    }
+                    if (queue.isEmpty()) {
+                        Thread.onSpinWait();
+                    }
+                }
+                checksum.addAndGet(sum);
+            }));
+        }
+        
+        long startTime = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+        
+        boolean consistent = consumed.sum() == total
+                && checksum.get() == total * (total - 1) / 2
+                && queue.isEmpty();
+        System.out.println("Stress test: " + producers + " producers, " + consumers + " consumers, "
+                + total + " elements in " + elapsedMillis + " ms ("
+                + (total * 1000 / elapsedMillis) + " elements/s), consistent: " + consistent);
+        if (!consistent) {
+            throw new IllegalStateException("Queue lost or duplicated elements");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package LinkedList;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+// Frees direct and mapped ByteBuffers on the spot instead of when the garbage collector
+// finds them unreachable. Until then a dropped buffer still counts against
+// -XX:MaxDirectMemorySize (or keeps its file mapped), however little heap it takes.
+final class DirectBuffers {
+    
+    // sun.misc.Unsafe.invokeCleaner bound to the Unsafe instance, looked up by name so the
+    // build does not depend on the internal API (null when it is not accessible; buffers
+    // are then left to the GC)
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+    
+    private DirectBuffers() {
+    }
+    
+    // Release the memory or mapping behind buffer. It must be a buffer returned by
+    // ByteBuffer.allocateDirect or FileChannel.map (not a slice of one), and nothing may
+    // touch it afterwards: a read through a freed buffer can crash the JVM.
+    static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || buffer == null) {
+            return;
+        }
+        
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not free direct buffer", e);
+        }
+    }
+    
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            MethodHandle invokeCleaner = MethodHandles.lookup().findVirtual(unsafeClass, "invokeCleaner",
+                    MethodType.methodType(void.class, ByteBuffer.class));
+            return invokeCleaner.bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+// Generated from LinkedList/templates/PrimitiveListIterator.java.template by GeneratePrimitiveLists.java;
+// edit the template and regenerate instead of changing this file.
+package LinkedList;
+
+import java.util.PrimitiveIterator;
+
+// Bidirectional iterator over a DoubleLinkedList that hands out unboxed doubles: the
+// primitive counterpart of java.util.ListIterator<Double>. The cursor sits between two
+// elements; next and previous move it, and remove/set act on the element returned last.
+public interface DoubleListIterator extends PrimitiveIterator.OfDouble {
+    
+    // Check if there is an element before the cursor
+    boolean hasPrevious();
+    
+    // Move the cursor back and return the element it passed
+    double previousDouble();
+    
+    // Index of the element nextDouble() would return (size at the end)
+    int nextIndex();
+    
+    // Index of the element previousDouble() would return (-1 at the start)
+    int previousIndex();
+    
+    // Remove the element returned by the last nextDouble() or previousDouble()
+    @Override
+    void remove();
+    
+    // Replace the element returned by the last nextDouble() or previousDouble()
+    void set(double value);
+    
+    // Insert value in front of the cursor; nextDouble() is unaffected, previousDouble() returns it
+    void add(double value);
+}
@@ -0,0 +1,71 @@
+package LinkedList;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// Turns the elements of a GenericLinkedList into bytes and back for writeTo/readFrom.
+// decode must read exactly the bytes encode wrote; the snapshot format around them
+// takes care of blocks and checksums.
+public interface ElementCodec<T> {
+    
+    // Write one element
+    void encode(T value, DataOutput out) throws IOException;
+    
+    // Read back one element written by encode
+    T decode(DataInput in) throws IOException;
+    
+    // Integers as 4 bytes each
+    static ElementCodec<Integer> integers() {
+        return new ElementCodec<>() {
+            @Override
+            public void encode(Integer value, DataOutput out) throws IOException {
+                out.writeInt(value);
+            }
+            
+            @Override
+            public Integer decode(DataInput in) throws IOException {
+                return in.readInt();
+            }
+        };
+    }
+    
+    // Longs as 8 bytes each
+    static ElementCodec<Long> longs() {
+        return new ElementCodec<>() {
+            @Override
+            public void encode(Long value, DataOutput out) throws IOException {
+                out.writeLong(value);
+            }
+            
+            @Override
+            public Long decode(DataInput in) throws IOException {
+                return in.readLong();
+            }
+        };
+    }
+    
+    // Strings as a byte count followed by their UTF-8 bytes (no length limit, unlike writeUTF)
+    static ElementCodec<String> strings() {
+        return new ElementCodec<>() {
+            @Override
+            public void encode(String value, DataOutput out) throws IOException {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            
+            @Override
+            public String decode(DataInput in) throws IOException {
+                int length = in.readInt();
+                if (length < 0) {
+                    throw new IOException("Snapshot is corrupt: negative string length");
+                }
+                byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
@@ -0,0 +1,345 @@
+package LinkedList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Flat-combining wrapper that lets many threads change one GenericLinkedList. Instead of
+// every thread taking the lock for its own O(1) insert, a thread posts its operation in a
+// slot and tries the lock once; whichever thread gets it (the "combiner") applies every
+// posted operation in one pass while the others wait for their slot to be marked done. The
+// lock changes hands once per batch instead of once per operation, and the list's nodes
+// stay in the combiner's cache for the whole batch.
+//
+// Waiting threads spin briefly (not at all on a single CPU) and then park. The lock is a
+// ReentrantLock and waiting uses LockSupport, never synchronized or Object.wait, so a
+// virtual thread waiting here unmounts from its carrier thread instead of pinning it.
+public class FlatCombiningLinkedList<T> {
+    
+    // Default number of slots; more threads than slots still works, the extra ones just
+    // take the lock themselves more often
+    public static final int DEFAULT_SLOTS = 64;
+    
+    private static final int NCPU = Runtime.getRuntime().availableProcessors();
+    
+    // Spins before parking; spinning only helps when the combiner runs on another CPU
+    private static final int SPINS = NCPU > 1 ? 1 << 8 : 0;
+    
+    // Yields after spinning and before parking: the combiner usually finishes within a few
+    // time slices, and a thread that never parks needs no unpark
+    private static final int YIELDS = 8;
+    
+    // Slots a thread tries before it gives up on posting and takes the lock itself
+    private static final int PROBES = 4;
+    
+    // Passes over the slots a combiner makes while it keeps finding new operations
+    private static final int COMBINE_PASSES = 4;
+    
+    // Operations that can be posted
+    private enum Kind {
+        INSERT_AT_HEAD,
+        INSERT_AT_TAIL,
+        DELETE_BY_VALUE
+    }
+    
+    // One posted operation. deleted and failure are written by the combiner before done,
+    // so the poster sees them once it sees done.
+    private static final class Request<T> {
+        final Kind kind;
+        final T value;
+        boolean deleted;
+        RuntimeException failure;
+        volatile boolean done;
+        volatile Thread waiter;     // set when the poster is about to park
+        
+        Request(Kind kind, T value) {
+            this.kind = kind;
+            this.value = value;
+        }
+    }
+    
+    private final GenericLinkedList<T> list;
+    private final ReentrantLock lock;
+    private final AtomicReferenceArray<Request<T>> slots;
+    private final int mask;
+    
+    // Set after every post and cleared by a combiner before it scans, so that threads
+    // working without contention never scan the slots at all
+    private volatile boolean posted;
+    
+    // Constructor
+    public FlatCombiningLinkedList() {
+        this(DEFAULT_SLOTS);
+    }
+    
+    // Constructor with a custom number of slots (a power of two)
+    public FlatCombiningLinkedList(int slots) {
+        if (slots <= 0 || (slots & (slots - 1)) != 0) {
+            throw new IllegalArgumentException("Slots must be a positive power of two: " + slots);
+        }
+        this.list = new GenericLinkedList<>();
+        this.lock = new ReentrantLock();
+        this.slots = new AtomicReferenceArray<>(slots);
+        this.mask = slots - 1;
+    }
+    
+    // Insert at the beginning of the list
+    public void insertAtHead(T data) {
+        submit(Kind.INSERT_AT_HEAD, data);
+    }
+    
+    // Insert at the end of the list
+    public void insertAtTail(T data) {
+        submit(Kind.INSERT_AT_TAIL, data);
+    }
+    
+    // Delete by value (first occurrence)
+    public boolean deleteByValue(T value) {
+        return submit(Kind.DELETE_BY_VALUE, value);
+    }
+    
+    // The reads below take the lock directly; they see every operation that has returned
+    
+    // Get the size of the list
+    public int size() {
+        lock.lock();
+        try {
+            return list.size();
+        } finally {
+            unlockAndWakeWaiter();
+        }
+    }
+    
+    // Check if list is empty
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+    
+    // Check if list contains a value
+    public boolean contains(T value) {
+        lock.lock();
+        try {
+            return list.contains(value);
+        } finally {
+            unlockAndWakeWaiter();
+        }
+    }
+    
+    // Search for a value
+    public int search(T value) {
+        lock.lock();
+        try {
+            return list.search(value);
+        } finally {
+            unlockAndWakeWaiter();
+        }
+    }
+    
+    // Convert to array
+    public Object[] toArray() {
+        lock.lock();
+        try {
+            return list.toArray();
+        } finally {
+            unlockAndWakeWaiter();
+        }
+    }
+    
+    // Override toString method
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            return list.toString();
+        } finally {
+            unlockAndWakeWaiter();
+        }
+    }
+    
+    // Apply an operation directly when the lock is free; otherwise post it and wait until
+    // some combiner, possibly this thread, has applied it
+    private boolean submit(Kind kind, T value) {
+        if (lock.isLocked() || !lock.tryLock()) {
+            Request<T> request = new Request<>(kind, value);
+            if (post(request)) {
+                awaitOrCombine(request);
+                if (request.failure != null) {
+                    throw request.failure;
+                }
+                return request.deleted;
+            }
+            
+            // Every slot this thread may use is taken: wait for the lock like a plain wrapper
+            lock.lock();
+        }
+        
+        try {
+            return apply(kind, value);
+        } finally {
+            combine();
+            unlockAndWakeWaiter();
+        }
+    }
+    
+    // Put the request in a free slot near this thread's own slot
+    private boolean post(Request<T> request) {
+        long id = Thread.currentThread().getId();
+        int home = (int) ((id * 0x9E3779B97F4A7C15L) >>> 32);
+        for (int i = 0; i < PROBES; i++) {
+            int index = (home + i) & mask;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, request)) {
+                posted = true;
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void awaitOrCombine(Request<T> request) {
+        int spins = 0;
+        while (!request.done) {
+            if (!lock.isLocked() && lock.tryLock()) {
+                // The request is in a slot and posted is still set, unless a combiner has
+                // already taken it, so this pass applies it
+                try {
+                    combine();
+                } finally {
+                    unlockAndWakeWaiter();
+                }
+            } else if (spins < SPINS) {
+                spins++;
+                Thread.onSpinWait();
+            } else if (spins < SPINS + YIELDS) {
+                spins++;
+                Thread.yield();
+            } else {
+                // Publish the waiter, then look at the lock again: either the combiner that
+                // holds it sees the waiter after unlocking, or this thread sees the lock free
+                request.waiter = Thread.currentThread();
+                if (!request.done && lock.isLocked()) {
+                    LockSupport.park(this);
+                }
+            }
+        }
+    }
+    
+    // Apply every posted request; called with the lock held
+    private void combine() {
+        for (int pass = 0; pass < COMBINE_PASSES && posted; pass++) {
+            posted = false;
+            for (int i = 0; i <= mask; i++) {
+                Request<T> request = slots.get(i);
+                if (request == null) {
+                    continue;
+                }
+                
+                try {
+                    request.deleted = apply(request.kind, request.value);
+                } catch (RuntimeException e) {
+                    request.failure = e;
+                }
+                slots.set(i, null);
+                request.done = true;
+                Thread waiter = request.waiter;
+                if (waiter != null) {
+                    LockSupport.unpark(waiter);
+                }
+            }
+        }
+    }
+    
+    // Returns the result of deleteByValue (false for the inserts)
+    private boolean apply(Kind kind, T value) {
+        switch (kind) {
+            case INSERT_AT_HEAD:
+                list.insertAtHead(value);
+                return false;
+            case INSERT_AT_TAIL:
+                list.insertAtTail(value);
+                return false;
+            case DELETE_BY_VALUE:
+                return list.deleteByValue(value);
+            default:
+                throw new IllegalStateException("Unknown operation: " + kind);
+        }
+    }
+    
+    // A request posted after the combiner's last pass is only applied once its thread takes
+    // the lock; if that thread already parked, wake it (one is enough: it combines for all)
+    private void unlockAndWakeWaiter() {
+        lock.unlock();
+        if (!posted) {
+            return;
+        }
+        for (int i = 0; i <= mask; i++) {
+            Request<T> request = slots.get(i);
+            if (request != null) {
+                Thread waiter = request.waiter;
+                if (waiter != null) {
+                    LockSupport.unpark(waiter);
+                    return;
+                }
+            }
+        }
+    }
+    
+    // Main method for testing: a multi-threaded stress test
+    public static void main(String[] args) throws InterruptedException {
+        FlatCombiningLinkedList<Integer> list = new FlatCombiningLinkedList<>();
+        
+        // Test basic operations
+        list.insertAtHead(10);
+        list.insertAtTail(20);
+        list.insertAtHead(5);
+        System.out.println("After insertions: " + list);
+        System.out.println("Delete 10: " + list.deleteByValue(10));
+        System.out.println("Delete 15: " + list.deleteByValue(15));
+        System.out.println("Contains 20: " + list.contains(20));
+        System.out.println("After deletions: " + list);
+        
+        // Every thread inserts its own values at both ends, then deletes every other one
+        int threadCount = 64;
+        int perThread = 20_000;
+        FlatCombiningLinkedList<Integer> shared = new FlatCombiningLinkedList<>();
+        LongAdder deleted = new LongAdder();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            int base = t * perThread;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    if (i % 2 == 0) {
+                        shared.insertAtHead(base + i);
+                    } else {
+                        shared.insertAtTail(base + i);
+                    }
+                    if (i % 2 == 1 && i % 64 != 1 && shared.deleteByValue(base + i - 1)) {
+                        deleted.increment();
+                    }
+                }
+            }));
+        }
+        
+        long startTime = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+        
+        long operations = (long) threadCount * perThread + deleted.sum();
+        int expectedDeleted = threadCount * (perThread / 2 - (perThread + 62) / 64);
+        boolean consistent = deleted.sum() == expectedDeleted
+                && shared.size() == threadCount * perThread - expectedDeleted;
+        System.out.println("Stress test: " + threadCount + " threads, " + operations + " operations in "
+                + elapsedMillis + " ms (" + (operations * 1000 / elapsedMillis) + " operations/s), consistent: "
+                + consistent);
+        if (!consistent) {
+            throw new IllegalStateException("List lost or duplicated elements");
+        }
+    }
+}
@@ -1,47 +1,134 @@
-public class GenericLinkedList<T> {
+package LinkedList;
+
+import LinkedList.ListMetrics.Operation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class GenericLinkedList<T> implements Iterable<T> {
     
     // Node class to represent individual elements
     private class Node {
         T data;
         Node next;
+        Node prev;
+        // Neighbours with an equal value, in list order (only used by the hash index)
+        Node nextSame;
+        Node prevSame;
         
         Node(T data) {
             this.data = data;
             this.next = null;
+            this.prev = null;
         }
     }
     
+    // With the skip-list index, a cursor further away than this is not worth walking from
+    private static final int CURSOR_REACH = 64;
+    
+    // Metrics shared by every GenericLinkedList (see ListMetrics; inert unless enabled)
+    private static final ListMetrics METRICS = ListMetrics.forList("GenericLinkedList");
+    
     private Node head;
+    private Node tail;
     private int size;
     
+    // Number of structural changes, so iterators can detect modification during iteration
+    private int modCount;
+    
+    // Node found by the last positional lookup and its index (-1 when unknown), so nearby
+    // indices are found from there instead of from an end of the list
+    private Node cursor;
+    private int cursorIndex;
+    
+    // Nodes stepped over and allocated by the operation in progress; only counted while
+    // metrics are enabled
+    private int traversedNodes;
+    private int allocatedNodes;
+    
+    // Optional skip-list index for O(log n) positional access (null when disabled)
+    private SkipListIndex<Node> skipIndex;
+    
+    // Optional hash index from value to its nodes for O(1) membership (null when disabled)
+    private ValueIndex valueIndex;
+    
+    // True after snapshot() until the nodes are copied: the snapshot reads them too, so
+    // they must not change (see unshare)
+    private boolean shared;
+    
+    // Bumped by unshare() each time it swaps the nodes for copies, so an iterator still
+    // holding old nodes knows to find its place again among the new ones
+    private int nodeGeneration;
+    
+    // Optional pool of unlinked nodes, chained through next, reused by the next insert
+    private Node pool;
+    private int poolSize;
+    private int poolCapacity;
+    
     // Constructor
-    public LinkedList() {
+    public GenericLinkedList() {
         this.head = null;
+        this.tail = null;
         this.size = 0;
+        this.cursorIndex = -1;
+    }
+    
+    // Counts, nodes traversed, allocations and latencies of the operations of every
+    // GenericLinkedList, recorded when the JVM runs with -Dlinkedlist.metrics=true
+    public static ListMetrics metrics() {
+        return METRICS;
     }
     
     // Insert at the beginning of the list
     public void insertAtHead(T data) {
-        Node newNode = new Node(data);
+        long start = beginMetrics();
+        Node newNode = newNode(data);
         newNode.next = head;
+        
+        if (head == null) {
+            tail = newNode;
+        } else {
+            head.prev = newNode;
+        }
         head = newNode;
         size++;
+        nodeInserted(newNode, 0);
+        endMetrics(Operation.INSERT_AT_HEAD, start);
     }
     
-    // Insert at the end of the list
+    // Insert at the end of the list (O(1) thanks to the tail pointer)
     public void insertAtTail(T data) {
-        Node newNode = new Node(data);
+        long start = beginMetrics();
+        Node newNode = newNode(data);
+        newNode.prev = tail;
         
-        if (head == null) {
+        if (tail == null) {
             head = newNode;
         } else {
-            Node current = head;
-            while (current.next != null) {
-                current = current.next;
-            }
-            current.next = newNode;
+            tail.next = newNode;
         }
+        tail = newNode;
         size++;
+        nodeInserted(newNode, size - 1);
+        endMetrics(Operation.INSERT_AT_TAIL, start);
     }
     
     // Insert at specific index
@@ -55,16 +142,15 @@ public class GenericLinkedList<T> {
             return;
         }
         
-        Node newNode = new Node(data);
-        Node current = head;
-        
-        for (int i = 0; i < index - 1; i++) {
-            current = current.next;
+        if (index == size) {
+            insertAtTail(data);
+            return;
         }
         
-        newNode.next = current.next;
-        current.next = newNode;
-        size++;
+        long start = beginMetrics();
+        unshare();
+        linkBefore(node(index), data, index);
+        endMetrics(Operation.INSERT_AT_INDEX, start);
     }
     
     // Delete from the beginning
@@ -73,33 +159,25 @@ public class GenericLinkedList<T> {
             throw new RuntimeException("List is empty");
         }
         
+        long start = beginMetrics();
+        unshare();
         T data = head.data;
-        head = head.next;
-        size--;
+        unlink(head, 0);
+        endMetrics(Operation.DELETE_FROM_HEAD, start);
         return data;
     }
     
-    // Delete from the end
+    // Delete from the end (O(1) thanks to the prev pointers)
     public T deleteFromTail() {
-        if (head == null) {
+        if (tail == null) {
             throw new RuntimeException("List is empty");
         }
         
-        if (head.next == null) {
-            T data = head.data;
-            head = null;
-            size--;
-            return data;
-        }
-        
-        Node current = head;
-        while (current.next.next != null) {
-            current = current.next;
-        }
-        
-        T data = current.next.data;
-        current.next = null;
-        size--;
+        long start = beginMetrics();
+        unshare();
+        T data = tail.data;
+        unlink(tail, size - 1);
+        endMetrics(Operation.DELETE_FROM_TAIL, start);
         return data;
     }
     
@@ -109,61 +187,29 @@ public class GenericLinkedList<T> {
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
         
-        if (index == 0) {
-            return deleteFromHead();
-        }
-        
-        Node current = head;
-        for (int i = 0; i < index - 1; i++) {
-            current = current.next;
-        }
-        
-        T data = current.next.data;
-        current.next = current.next.next;
-        size--;
+        long start = beginMetrics();
+        unshare();
+        Node target = node(index);
+        T data = target.data;
+        unlink(target, index);
+        endMetrics(Operation.DELETE_AT_INDEX, start);
         return data;
     }
     
     // Delete by value (first occurrence)
     public boolean deleteByValue(T value) {
-        if (head == null) {
-            return false;
-        }
-        
-        if (head.data.equals(value)) {
-            head = head.next;
-            size--;
-            return true;
-        }
-        
-        Node current = head;
-        while (current.next != null && !current.next.data.equals(value)) {
-            current = current.next;
-        }
-        
-        if (current.next != null) {
-            current.next = current.next.next;
-            size--;
-            return true;
-        }
-        
-        return false;
+        long start = beginMetrics();
+        boolean deleted = unlinkFirst(value);
+        endMetrics(Operation.DELETE_BY_VALUE, start);
+        return deleted;
     }
     
     // Search for a value
     public int search(T value) {
-        Node current = head;
-        int index = 0;
-        
-        while (current != null) {
-            if (current.data.equals(value)) {
-                return index;
-            }
-            current = current.next;
-            index++;
-        }
-        
-        return -1; // Not found
+        long start = beginMetrics();
+        int index = indexOf(value);
+        endMetrics(Operation.SEARCH, start);
+        return index;
     }
     
     // Get element at specific index
@@ -172,12 +218,10 @@ public class GenericLinkedList<T> {
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
         
-        Node current = head;
-        for (int i = 0; i < index; i++) {
-            current = current.next;
-        }
-        
-        return current.data;
+        long start = beginMetrics();
+        T data = node(index).data;
+        endMetrics(Operation.GET, start);
+        return data;
     }
     
     // Update element at specific index
@@ -186,17 +230,18 @@ public class GenericLinkedList<T> {
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
         
-        Node current = head;
-        for (int i = 0; i < index; i++) {
-            current = current.next;
-        }
-        
-        current.data = data;
+        long start = beginMetrics();
+        unshare();
+        replace(node(index), data);
+        endMetrics(Operation.SET, start);
     }
     
     // Check if list contains a value
     public boolean contains(T value) {
-        return search(value) != -1;
+        long start = beginMetrics();
+        boolean found = (valueIndex != null) ? valueIndex.first(value) != null : indexOf(value) != -1;
+        endMetrics(Operation.CONTAINS, start);
+        return found;
     }
     
     // Get the size of the list
@@ -212,23 +257,278 @@ public class GenericLinkedList<T> {
     // Clear the entire list
     public void clear() {
         head = null;
+        tail = null;
         size = 0;
+        modCount++;
+        dropCursor();
+        shared = false;
+        
+        if (skipIndex != null) {
+            skipIndex.clear();
+        }
+        if (valueIndex != null) {
+            valueIndex.clear();
+        }
     }
     
-    // Reverse the linked list
+    // Reverse the linked list by swapping each node's next and prev
     public void reverse() {
+        unshare();
+        Node current = head;
+        
+        while (current != null) {
+            Node next = current.next;
+            current.next = current.prev;
+            current.prev = next;
+            current = next;
+        }
+        
+        Node oldHead = head;
+        head = tail;
+        tail = oldHead;
+        modCount++;
+        nodesReordered();
+    }
+    
+    // Sort the list with a stable natural merge sort that relinks nodes.
+    // Existing ascending and descending runs are kept as they are, so nearly
+    // sorted input takes close to O(n) time; the worst case is O(n log n).
+    public void sort(Comparator<? super T> comparator) {
+        if (size < 2) {
+            return;
+        }
+        
+        unshare();
+        
+        // bins[i] holds a sorted run built from 2^i input runs, oldest in the highest bin
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Node[] bins = (Node[]) new GenericLinkedList.Node[32];
+        Node current = head;
+        
+        while (current != null) {
+            Node run = current;
+            Node last = current;
+            current = current.next;
+            
+            if (current != null && comparator.compare(last.data, current.data) > 0) {
+                // Strictly descending run: reverse it as we go (strict keeps the sort stable)
+                last.next = null;
+                while (current != null && comparator.compare(run.data, current.data) > 0) {
+                    Node next = current.next;
+                    current.next = run;
+                    run = current;
+                    current = next;
+                }
+            } else {
+                while (current != null && comparator.compare(last.data, current.data) <= 0) {
+                    last = current;
+                    current = current.next;
+                }
+                last.next = null;
+            }
+            
+            int bin = 0;
+            while (bins[bin] != null) {
+                run = merge(bins[bin], run, comparator);
+                bins[bin] = null;
+                bin++;
+            }
+            bins[bin] = run;
+        }
+        
+        Node result = null;
+        for (Node bin : bins) {
+            if (bin != null) {
+                result = (result == null) ? bin : merge(bin, result, comparator);
+            }
+        }
+        
+        // Merging only maintained the next pointers; restore prev and tail in one pass
+        head = result;
         Node prev = null;
+        for (Node node = head; node != null; node = node.next) {
+            node.prev = prev;
+            prev = node;
+        }
+        tail = prev;
+        modCount++;
+        nodesReordered();
+    }
+    
+    // Remove every repeated element, keeping each one's first occurrence. One pass with a
+    // hash set of the elements seen so far, O(n) expected time. With the hash index enabled
+    // no set is needed: a node is a first occurrence exactly when it heads its value's chain.
+    public void distinct() {
+        unshare();
+        HashSet<T> seen = valueIndex == null ? new HashSet<>() : null;
         Node current = head;
-        Node next = null;
+        int index = 0;
+        
+        while (current != null) {
+            Node next = current.next;
+            boolean first = seen != null ? seen.add(current.data) : valueIndex.first(current.data) == current;
+            if (first) {
+                index++;
+            } else {
+                unlink(current, index);
+            }
+            current = next;
+        }
+    }
+    
+    // distinct() for lists too large to keep a set of every element. A first pass runs the
+    // elements' hash codes through a Bloom filter of about filterBytes bytes; only elements
+    // the filter has probably seen before can be repeats, and just those go into a set. A
+    // second pass then drops the later occurrences of those candidates.
+    public void distinctBounded(long filterBytes) {
+        if (filterBytes <= 0) {
+            throw new IllegalArgumentException("Filter size must be positive: " + filterBytes);
+        }
+        
+        unshare();
+        BloomFilter filter = new BloomFilter(filterBytes, size);
+        HashSet<T> candidates = new HashSet<>();
+        for (Node current = head; current != null; current = current.next) {
+            if (filter.add(Objects.hashCode(current.data))) {
+                candidates.add(current.data);
+            }
+        }
         
+        HashSet<T> seen = new HashSet<>();
+        Node current = head;
+        int index = 0;
         while (current != null) {
-            next = current.next;
-            current.next = prev;
-            prev = current;
+            Node next = current.next;
+            if (!candidates.contains(current.data) || seen.add(current.data)) {
+                index++;
+            } else {
+                unlink(current, index);
+            }
             current = next;
         }
+    }
+    
+    // Move every element of other to the end of this list and leave other empty. The nodes
+    // change owner as they are, so the relinking is O(1); only the optional indexes of this
+    // list, when enabled, visit each moved node to take it in. If a snapshot of other still
+    // shares the nodes, this list copies them before its next change to them (see unshare).
+    public void appendAll(GenericLinkedList<T> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot append a list to itself");
+        }
+        if (other.head == null) {
+            return;
+        }
+        
+        Node first = other.head;
+        Node last = other.tail;
+        int count = other.size;
+        boolean otherShared = other.shared;
+        other.clear();
+        
+        int index = size;
+        if (tail == null) {
+            head = first;
+        } else {
+            tail.next = first;
+            first.prev = tail;
+        }
+        tail = last;
+        size += count;
+        shared |= otherShared;
+        modCount++;
+        chainAppended(first, index);
+    }
+    
+    // Cut the list in two: this list keeps the elements before index and the rest move, in
+    // order, to the returned list. Finding index costs what get(index) costs and the cut is
+    // O(1) relinking. The returned list starts without any of the optional indexes.
+    public GenericLinkedList<T> splitAt(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        GenericLinkedList<T> rest = new GenericLinkedList<>();
+        if (index < size) {
+            unshare();
+            Node last = tail;
+            int count = size - index;
+            rest.head = detach(index, size);
+            rest.tail = last;
+            rest.size = count;
+        }
+        return rest;
+    }
+    
+    // Live view of the elements from index from up to (not including) to, in O(1). Reads
+    // and set() go straight to this list's nodes and clear() unlinks the whole range at
+    // once; any other structural change to the list invalidates the view (fail-fast).
+    public SubListView subListView(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("From: " + from + ", To: " + to + ", Size: " + size);
+        }
+        return new SubListView(from, to - from);
+    }
+    
+    // Build a skip-list index so get, set, insertAtIndex and deleteAtIndex take O(log n)
+    // expected time. promotionProbability trades memory (about n * p / (1 - p) index
+    // entries) for speed (about 1 / p steps per level); 0.25 is a good default.
+    public void enableSkipListIndex(double promotionProbability) {
+        skipIndex = new SkipListIndex<>(promotionProbability);
+        nodesReordered();
+    }
+    
+    // Build a skip-list index with the default promotion probability of 0.25
+    public void enableSkipListIndex() {
+        enableSkipListIndex(0.25);
+    }
+    
+    // Drop the skip-list index and go back to walking the list
+    public void disableSkipListIndex() {
+        skipIndex = null;
+    }
+    
+    // Build a hash index from each value (by equals/hashCode) to its nodes, so contains and
+    // deleteByValue take O(1) expected time and search only has to count the position of
+    // the match. Costs two extra links per node plus one map entry per distinct value.
+    // insertAtHead and insertAtTail stay O(1) with the index on, but insertAtIndex, set and
+    // the list iterator's add and set must also find the node's place in its value's
+    // chain: they walk outwards to the nearest equal value or end of the list, O(n) at worst.
+    public void enableHashIndex() {
+        valueIndex = new ValueIndex(size);
+        nodesReordered();
+    }
+    
+    // Drop the hash index and go back to scanning the list
+    public void disableHashIndex() {
+        if (valueIndex == null) {
+            return;
+        }
+        
+        valueIndex = null;
+        for (Node current = head; current != null; current = current.next) {
+            current.nextSame = null;
+            current.prevSame = null;
+        }
+    }
+    
+    // Keep up to capacity deleted nodes and reuse them for later inserts, so a steady mix
+    // of inserts and deletes allocates nothing. clear() drops the nodes instead of pooling them.
+    public void enableNodePool(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Pool capacity must not be negative: " + capacity);
+        }
         
-        head = prev;
+        poolCapacity = capacity;
+        while (poolSize > capacity) {
+            pool = pool.next;
+            poolSize--;
+        }
+    }
+    
+    // Release the pooled nodes and allocate a new node for every insert again
+    public void disableNodePool() {
+        enableNodePool(0);
     }
     
     // Get the first element
@@ -241,16 +541,60 @@ public class GenericLinkedList<T> {
     
     // Get the last element
     public T getLast() {
-        if (head == null) {
+        if (tail == null) {
             throw new RuntimeException("List is empty");
         }
-        
-        Node current = head;
-        while (current.next != null) {
-            current = current.next;
+        return tail.data;
+    }
+    
+    // Iterate from head to tail. The iterator is fail-fast: changing the list other than
+    // through the iterator's own remove() makes the next call throw
+    // ConcurrentModificationException.
+    @Override
+    public Iterator<T> iterator() {
+        return new NodeIterator(0);
+    }
+    
+    // Bidirectional iterator starting at the head, with add, remove and set in O(1)
+    // (add and set walk to the nearest equal value while the hash index is enabled)
+    public ListIterator<T> listIterator() {
+        return new NodeIterator(0);
+    }
+    
+    // Bidirectional iterator whose first next() returns the element at index
+    public ListIterator<T> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
-        
-        return current.data;
+        return new NodeIterator(index);
+    }
+    
+    // Spliterator over the elements, head to tail. trySplit() hands off the first half of
+    // what is left, so parallel streams get evenly sized pieces without copying the list.
+    // It is late-binding: it takes head, size and modCount on first use, not here.
+    @Override
+    public Spliterator<T> spliterator() {
+        return new NodeSpliterator();
+    }
+    
+    // Sequential stream over the elements, head to tail
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+    
+    // Parallel stream over the elements; the list must not change while it runs
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+    
+    // Immutable view of the list as it is now, in O(1): nothing is copied up front. The view
+    // and the list share their nodes until the list next changes a node the view can see
+    // (a delete, set, sort, ...); that change first copies the list's nodes once, in O(n).
+    // insertAtHead and insertAtTail leave the shared nodes alone, so they stay O(1). The
+    // view never changes, so other threads may read it while this list keeps changing.
+    public ListSnapshot<T> snapshot() {
+        shared = head != null;
+        return new NodeSnapshot(head, tail, size);
     }
     
     // Convert to array
@@ -267,6 +611,46 @@ public class GenericLinkedList<T> {
         return array;
     }
     
+    // Write the list to channel as a binary snapshot: blocks of elements encoded by codec,
+    // each with a CRC32 (see SnapshotWriter for the format)
+    public void writeTo(WritableByteChannel channel, ElementCodec<? super T> codec) throws IOException {
+        SnapshotWriter writer = new SnapshotWriter(channel, SnapshotWriter.KIND_ELEMENT);
+        for (Node current = head; current != null; current = current.next) {
+            writer.writeElement(current.data, codec);
+        }
+        writer.finish();
+    }
+    
+    // Replace the contents with a snapshot written by writeTo with the same codec. The new
+    // nodes are linked on the side and only swapped in at the end, so a truncated or
+    // corrupt snapshot throws IOException and leaves the list unchanged.
+    public void readFrom(ReadableByteChannel channel, ElementCodec<? extends T> codec) throws IOException {
+        SnapshotReader reader = new SnapshotReader(channel, SnapshotWriter.KIND_ELEMENT);
+        Node first = null;
+        Node last = null;
+        int count = 0;
+        
+        while (reader.nextBlock()) {
+            for (int i = reader.remaining(); i > 0; i--) {
+                Node node = newNode(reader.nextElement(codec));
+                if (first == null) {
+                    first = node;
+                } else {
+                    last.next = node;
+                    node.prev = last;
+                }
+                last = node;
+                count++;
+            }
+        }
+        
+        clear();
+        head = first;
+        tail = last;
+        size = count;
+        nodesReordered();
+    }
+    
     // Display the list
     public void display() {
         if (head == null) {
@@ -309,43 +693,1139 @@ public class GenericLinkedList<T> {
         return sb.toString();
     }
     
-    // Main method for testing
-    public static void main(String[] args) {
-        LinkedList<Integer> list = new LinkedList<>();
+    // Find the node at index and keep it as the cursor for the next lookup. Starts from the
+    // cursor when it is no further than either end (and, with the skip-list index, close
+    // enough that walking beats jumping), so a scan with get(i) or set(i) costs O(1) per step.
+    private Node node(int index) {
+        Node current;
+        int distance = cursorIndex < 0 ? Integer.MAX_VALUE : Math.abs(index - cursorIndex);
         
-        // Test insertions
-        list.insertAtHead(10);
-        list.insertAtHead(5);
-        list.insertAtTail(20);
-        list.insertAtTail(30);
-        list.insertAtIndex(2, 15);
+        if (distance <= Math.min(index, size - 1 - index) && (skipIndex == null || distance <= CURSOR_REACH)) {
+            current = walk(cursor, index - cursorIndex);
+        } else {
+            current = locate(index);
+        }
         
-        System.out.println("After insertions: " + list);
-        System.out.println("Size: " + list.size());
+        cursor = current;
+        cursorIndex = index;
+        return current;
+    }
+    
+    // Find the node at index without reading or moving the cursor, so parallel tasks can
+    // call it at the same time: through the skip-list index when there is one, otherwise
+    // walking from whichever end is closer
+    private Node locate(int index) {
+        if (skipIndex != null) {
+            return skipIndex.nodeAt(index, head, node -> node.next);
+        }
         
-        // Test search
-        System.out.println("Search 15: " + list.search(15));
-        System.out.println("Contains 25: " + list.contains(25));
+        if (index < (size >> 1)) {
+            return walk(head, index);
+        }
+        return walk(tail, index - (size - 1));
+    }
+    
+    // Follow steps next links from node, or -steps prev links when steps is negative
+    private Node walk(Node node, int steps) {
+        traversed(Math.abs(steps));
+        Node current = node;
+        for (; steps > 0; steps--) {
+            current = current.next;
+        }
+        for (; steps < 0; steps++) {
+            current = current.prev;
+        }
+        return current;
+    }
+    
+    // Give the list its own copy of the nodes if a snapshot still shares them. Called before
+    // any change that would write a node's data or next pointer, or unlink it.
+    private void unshare() {
+        if (!shared) {
+            return;
+        }
+        shared = false;
+        nodeGeneration++;
         
-        // Test get/set
-        System.out.println("Element at index 2: " + list.get(2));
-        list.set(2, 25);
-        System.out.println("After setting index 2 to 25: " + list);
+        Node first = null;
+        Node last = null;
+        for (Node current = head; current != null; current = current.next) {
+            Node copy = newNode(current.data);
+            if (first == null) {
+                first = copy;
+            } else {
+                last.next = copy;
+                copy.prev = last;
+            }
+            last = copy;
+        }
         
-        // Test deletions
-        System.out.println("Deleted from head: " + list.deleteFromHead());
-        System.out.println("Deleted from tail: " + list.deleteFromTail());
-        System.out.println("After deletions: " + list);
+        head = first;
+        tail = last;
+        nodesReordered();
+    }
+    
+    // Unlink the first node holding value, if there is one
+    private boolean unlinkFirst(T value) {
+        unshare();
+        if (valueIndex != null) {
+            Node target = valueIndex.first(value);
+            if (target == null) {
+                return false;
+            }
+            
+            // Only the skip-list index needs the position, so only count it when there is one
+            unlink(target, skipIndex != null ? position(target) : -1);
+            return true;
+        }
         
-        // Test reverse
-        list.reverse();
-        System.out.println("After reverse: " + list);
+        Node current = head;
+        int index = 0;
+        while (current != null && !current.data.equals(value)) {
+            current = current.next;
+            index++;
+        }
+        traversed(current == null ? index : index + 1);
         
-        // Test first and last
-        System.out.println("First element: " + list.getFirst());
-        System.out.println("Last element: " + list.getLast());
+        if (current != null) {
+            unlink(current, index);
+            return true;
+        }
         
-        // Display final state
-        list.display();
+        return false;
+    }
+    
+    // Index of the first node holding value (-1 if there is none)
+    private int indexOf(T value) {
+        if (valueIndex != null) {
+            Node first = valueIndex.first(value);
+            return (first == null) ? -1 : position(first);
+        }
+        
+        Node current = head;
+        int index = 0;
+        
+        while (current != null) {
+            if (current.data.equals(value)) {
+                traversed(index + 1);
+                return index;
+            }
+            current = current.next;
+            index++;
+        }
+        
+        traversed(index);
+        return -1; // Not found
+    }
+    
+    // Link a new node holding data in front of successor, which is at index
+    private void linkBefore(Node successor, T data, int index) {
+        Node newNode = newNode(data);
+        Node before = successor.prev;
+        
+        newNode.prev = before;
+        newNode.next = successor;
+        if (before == null) {
+            head = newNode;
+        } else {
+            before.next = newNode;
+        }
+        successor.prev = newNode;
+        size++;
+        nodeInserted(newNode, index);
+    }
+    
+    // Store data in target, keeping the optional indexes in step
+    private void replace(Node target, T data) {
+        if (valueIndex != null) {
+            valueIndex.remove(target);
+            target.data = data;
+            valueIndex.add(target);
+        } else {
+            target.data = data;
+        }
+    }
+    
+    // Count the position of node by walking back to the head
+    private int position(Node node) {
+        int index = 0;
+        for (Node current = node.prev; current != null; current = current.prev) {
+            index++;
+        }
+        traversed(index);
+        return index;
+    }
+    
+    // Remove the node at index from the chain in O(1)
+    private void unlink(Node target, int index) {
+        Node before = target.prev;
+        Node after = target.next;
+        
+        if (before == null) {
+            head = after;
+        } else {
+            before.next = after;
+        }
+        
+        if (after == null) {
+            tail = before;
+        } else {
+            after.prev = before;
+        }
+        
+        target.next = null;
+        target.prev = null;
+        size--;
+        nodeRemoved(target, index);
+        recycle(target);
+    }
+    
+    // A node holding data: a pooled one if there is one, otherwise a new one
+    private Node newNode(T data) {
+        Node node = pool;
+        if (node == null) {
+            if (ListMetrics.ENABLED) {
+                allocatedNodes++;
+            }
+            return new Node(data);
+        }
+        
+        pool = node.next;
+        poolSize--;
+        node.next = null;
+        node.data = data;
+        return node;
+    }
+    
+    // Unlink the elements from index from up to (not including) to as one chain, relinking
+    // in O(1) once both ends are found; returns the first node of the detached chain
+    private Node detach(int from, int to) {
+        Node first = node(from);
+        Node last = node(to - 1);
+        Node before = first.prev;
+        Node after = last.next;
+        
+        if (before == null) {
+            head = after;
+        } else {
+            before.next = after;
+        }
+        
+        if (after == null) {
+            tail = before;
+        } else {
+            after.prev = before;
+        }
+        
+        first.prev = null;
+        last.next = null;
+        size -= to - from;
+        modCount++;
+        dropCursor();
+        chainRemoved(first, from);
+        return first;
+    }
+    
+    // Put an unlinked node back in the pool if there is room for it (without its element,
+    // so the pool never keeps an element alive)
+    private void recycle(Node node) {
+        if (poolSize < poolCapacity) {
+            node.data = null;
+            node.next = pool;
+            pool = node;
+            poolSize++;
+        }
+    }
+    
+    // Start measuring an operation: reset its counters and return the start time. With
+    // metrics disabled this and endMetrics are empty after constant folding.
+    private long beginMetrics() {
+        if (!ListMetrics.ENABLED) {
+            return 0;
+        }
+        traversedNodes = 0;
+        allocatedNodes = 0;
+        return System.nanoTime();
+    }
+    
+    private void endMetrics(Operation operation, long start) {
+        if (ListMetrics.ENABLED) {
+            METRICS.record(operation, System.nanoTime() - start, traversedNodes, allocatedNodes);
+        }
+    }
+    
+    private void traversed(int nodes) {
+        if (ListMetrics.ENABLED) {
+            traversedNodes += nodes;
+        }
+    }
+    
+    // Keep the optional indexes in step with a node linked in at index
+    private void nodeInserted(Node node, int index) {
+        modCount++;
+        if (index <= cursorIndex) {
+            cursorIndex++;
+        }
+        if (skipIndex != null) {
+            skipIndex.inserted(index, node);
+        }
+        if (valueIndex != null) {
+            valueIndex.add(node);
+        }
+    }
+    
+    // Keep the optional indexes in step with a node unlinked from index
+    private void nodeRemoved(Node node, int index) {
+        modCount++;
+        if (node == cursor || index < 0) {
+            dropCursor();
+        } else if (index < cursorIndex) {
+            cursorIndex--;
+        }
+        if (skipIndex != null) {
+            skipIndex.removed(index, node);
+        }
+        if (valueIndex != null) {
+            valueIndex.remove(node);
+        }
+    }
+    
+    // Keep the optional indexes in step with the chain from first, just linked in at the end
+    // of the list starting at index
+    private void chainAppended(Node first, int index) {
+        if (skipIndex == null && valueIndex == null) {
+            return;
+        }
+        
+        for (Node current = first; current != null; current = current.next) {
+            if (skipIndex != null) {
+                skipIndex.inserted(index++, current);
+            }
+            if (valueIndex != null) {
+                valueIndex.append(current);
+            }
+        }
+    }
+    
+    // Keep the optional indexes in step with the chain from first, just detached from index
+    private void chainRemoved(Node first, int index) {
+        if (skipIndex == null && valueIndex == null) {
+            return;
+        }
+        
+        for (Node current = first; current != null; current = current.next) {
+            if (skipIndex != null) {
+                skipIndex.removed(index, current);
+            }
+            if (valueIndex != null) {
+                valueIndex.remove(current);
+            }
+        }
+    }
+    
+    // Forget the cursor once its node may have moved or left the list
+    private void dropCursor() {
+        cursor = null;
+        cursorIndex = -1;
+    }
+    
+    // Rebuild the optional indexes after the node order changed wholesale
+    private void nodesReordered() {
+        dropCursor();
+        if (skipIndex != null) {
+            skipIndex.beginRebuild();
+            for (Node current = head; current != null; current = current.next) {
+                skipIndex.append(current);
+            }
+            skipIndex.endRebuild();
+        }
+        
+        if (valueIndex != null) {
+            valueIndex.clear();
+            for (Node current = head; current != null; current = current.next) {
+                valueIndex.append(current);
+            }
+        }
+    }
+    
+    // Merge two sorted next-chains; ties keep nodes from left first, so the sort is stable
+    private Node merge(Node left, Node right, Comparator<? super T> comparator) {
+        Node first;
+        if (comparator.compare(right.data, left.data) < 0) {
+            first = right;
+            right = right.next;
+        } else {
+            first = left;
+            left = left.next;
+        }
+        
+        Node tail = first;
+        while (left != null && right != null) {
+            if (comparator.compare(right.data, left.data) < 0) {
+                tail.next = right;
+                right = right.next;
+            } else {
+                tail.next = left;
+                left = left.next;
+            }
+            tail = tail.next;
+        }
+        
+        tail.next = (left != null) ? left : right;
+        return first;
+    }
+    
+    private class NodeIterator implements ListIterator<T> {
+        private Node next;
+        private int nextIndex;
+        private Node lastReturned;
+        private int expectedModCount = modCount;
+        private int expectedGeneration = nodeGeneration;
+        
+        NodeIterator(int index) {
+            this.next = index == size ? null : node(index);
+            this.nextIndex = index;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+        
+        @Override
+        public T next() {
+            checkForComodification();
+            relocate(false);
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.data;
+        }
+        
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+        
+        @Override
+        public T previous() {
+            checkForComodification();
+            relocate(false);
+            if (nextIndex == 0) {
+                throw new NoSuchElementException();
+            }
+            
+            next = (next == null) ? tail : next.prev;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.data;
+        }
+        
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+        
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+        
+        // Remove the element returned by the last next() or previous() in O(1)
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            relocate(true);
+            
+            if (lastReturned == next) {
+                // After previous() the removed element is the one at nextIndex
+                next = lastReturned.next;
+            } else {
+                nextIndex--;
+            }
+            unlink(lastReturned, nextIndex);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+        
+        // Replace the element returned by the last next() or previous()
+        @Override
+        public void set(T value) {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            relocate(true);
+            replace(lastReturned, value);
+        }
+        
+        // Insert in front of the element next() would return, in O(1) without the hash index
+        @Override
+        public void add(T value) {
+            checkForComodification();
+            relocate(true);
+            if (next == null) {
+                insertAtTail(value);
+            } else {
+                linkBefore(next, value, nextIndex);
+            }
+            
+            nextIndex++;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+        
+        // A snapshot taken during the iteration shares the nodes, so before writing, make the
+        // list copy them. Once the list has copied them (here, or in a set() on the list or a
+        // view, which leaves modCount alone), find this iterator's place among the copies.
+        private void relocate(boolean writing) {
+            if (writing) {
+                unshare();
+            }
+            if (expectedGeneration == nodeGeneration) {
+                return;
+            }
+            
+            int lastIndex = lastReturned == null ? -1 : (lastReturned == next ? nextIndex : nextIndex - 1);
+            next = nextIndex == size ? null : locate(nextIndex);
+            lastReturned = lastIndex < 0 ? null : locate(lastIndex);
+            expectedGeneration = nodeGeneration;
+        }
+        
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+    
+    // Read-only view of the nodes as they were when snapshot() was called. It reads only data
+    // and next, and walks exactly size nodes from first, so nodes the list appends or prepends
+    // later (which only touch the old ends' prev or next) stay invisible to it.
+    private class NodeSnapshot implements ListSnapshot<T> {
+        private final Node first;
+        private final Node last;
+        private final int size;
+        
+        NodeSnapshot(Node first, Node last, int size) {
+            this.first = first;
+            this.last = last;
+            this.size = size;
+        }
+        
+        @Override
+        public int size() {
+            return size;
+        }
+        
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            
+            Node current = first;
+            for (int i = 0; i < index; i++) {
+                current = current.next;
+            }
+            return current.data;
+        }
+        
+        @Override
+        public T getFirst() {
+            if (size == 0) {
+                throw new RuntimeException("List is empty");
+            }
+            return first.data;
+        }
+        
+        @Override
+        public T getLast() {
+            if (size == 0) {
+                throw new RuntimeException("List is empty");
+            }
+            return last.data;
+        }
+        
+        @Override
+        public int search(T value) {
+            Node current = first;
+            for (int i = 0; i < size; i++) {
+                if (Objects.equals(current.data, value)) {
+                    return i;
+                }
+                current = current.next;
+            }
+            return -1; // Not found
+        }
+        
+        @Override
+        public Object[] toArray() {
+            Object[] array = new Object[size];
+            Node current = first;
+            for (int i = 0; i < size; i++) {
+                array[i] = current.data;
+                current = current.next;
+            }
+            return array;
+        }
+        
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<>() {
+                private Node next = first;
+                private int remaining = size;
+                
+                @Override
+                public boolean hasNext() {
+                    return remaining > 0;
+                }
+                
+                @Override
+                public T next() {
+                    if (remaining == 0) {
+                        throw new NoSuchElementException();
+                    }
+                    
+                    T data = next.data;
+                    next = next.next;
+                    remaining--;
+                    return data;
+                }
+            };
+        }
+        
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("[");
+            
+            Node current = first;
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append(current.data);
+                current = current.next;
+            }
+            
+            sb.append("]");
+            return sb.toString();
+        }
+    }
+    
+    // Covers the remaining nodes current, ... (count of them), starting at position index
+    private class NodeSpliterator implements Spliterator<T> {
+        // Don't bother splitting off pieces smaller than this
+        private static final int MIN_SPLIT = 1 << 10;
+        
+        private Node current;
+        private int index;
+        private int remaining;     // -1 until bound to the whole list
+        private int expectedModCount;
+        
+        // Spliterator over the whole list, bound when it is first used
+        NodeSpliterator() {
+            this.remaining = -1;
+        }
+        
+        NodeSpliterator(Node current, int index, int remaining, int expectedModCount) {
+            this.current = current;
+            this.index = index;
+            this.remaining = remaining;
+            this.expectedModCount = expectedModCount;
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            bind();
+            if (remaining <= 0) {
+                return false;
+            }
+            checkForComodification();
+            
+            T data = current.data;
+            current = current.next;
+            index++;
+            remaining--;
+            action.accept(data);
+            checkForComodification();
+            return true;
+        }
+        
+        // Checks for changes before every element: an action that unlinks a later node would
+        // otherwise leave the walk on a null or recycled (pooled) node
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            bind();
+            Node node = current;
+            for (; remaining > 0; remaining--) {
+                if (node == null || modCount != expectedModCount) {
+                    current = node;
+                    throw new ConcurrentModificationException();
+                }
+                
+                action.accept(node.data);
+                node = node.next;
+                index++;
+            }
+            
+            current = node;
+            checkForComodification();
+        }
+        
+        // Give away the first half. Finding the middle costs a walk over that half, or
+        // O(log n) when the list has a skip-list index.
+        @Override
+        public Spliterator<T> trySplit() {
+            bind();
+            if (remaining < MIN_SPLIT) {
+                return null;
+            }
+            checkForComodification();
+            
+            int half = remaining >>> 1;
+            Node middle;
+            if (skipIndex != null) {
+                middle = locate(index + half);
+            } else {
+                middle = current;
+                for (int i = 0; i < half; i++) {
+                    middle = middle.next;
+                }
+            }
+            
+            Spliterator<T> prefix = new NodeSpliterator(current, index, half, expectedModCount);
+            current = middle;
+            index += half;
+            remaining -= half;
+            return prefix;
+        }
+        
+        @Override
+        public long estimateSize() {
+            bind();
+            return remaining;
+        }
+        
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+        
+        // Take the list as it is now, on first use of a spliterator from spliterator()
+        private void bind() {
+            if (remaining < 0) {
+                current = head;
+                remaining = size;
+                expectedModCount = modCount;
+            }
+        }
+        
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+    
+    // Window onto the elements at offset, ... (length of them) of this list; see subListView.
+    // Indexes passed to the view count from the start of the window.
+    public class SubListView implements Iterable<T> {
+        private final int offset;
+        private int length;
+        private int expectedModCount = modCount;
+        
+        private SubListView(int offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+        
+        // Get the number of elements in the view
+        public int size() {
+            checkForComodification();
+            return length;
+        }
+        
+        // Check if the view is empty
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+        
+        // Get element at specific index of the view
+        public T get(int index) {
+            checkIndex(index);
+            return node(offset + index).data;
+        }
+        
+        // Update element at specific index of the view
+        public void set(int index, T data) {
+            checkIndex(index);
+            unshare();
+            replace(node(offset + index), data);
+        }
+        
+        // Search for a value and return its index in the view (-1 if not found)
+        public int search(T value) {
+            checkForComodification();
+            Node current = first();
+            for (int i = 0; i < length; i++) {
+                if (Objects.equals(current.data, value)) {
+                    return i;
+                }
+                current = current.next;
+            }
+            return -1;
+        }
+        
+        // Check if the view contains a value
+        public boolean contains(T value) {
+            return search(value) != -1;
+        }
+        
+        // Convert the view to an array
+        public Object[] toArray() {
+            checkForComodification();
+            Object[] array = new Object[length];
+            Node current = first();
+            for (int i = 0; i < length; i++) {
+                array[i] = current.data;
+                current = current.next;
+            }
+            return array;
+        }
+        
+        // Iterate over the view's elements in order (fail-fast)
+        @Override
+        public Iterator<T> iterator() {
+            return Spliterators.iterator(spliterator());
+        }
+        
+        // Splits like the list's own spliterator, within the window
+        @Override
+        public Spliterator<T> spliterator() {
+            checkForComodification();
+            return new NodeSpliterator(first(), offset, length, modCount);
+        }
+        
+        // Sequential stream over the view's elements
+        public Stream<T> stream() {
+            return StreamSupport.stream(spliterator(), false);
+        }
+        
+        // Parallel stream over the view's elements; the list must not change while it runs
+        public Stream<T> parallelStream() {
+            return StreamSupport.stream(spliterator(), true);
+        }
+        
+        // Remove the view's elements from the list, relinking the ends in O(1); the view
+        // stays usable and is empty afterwards
+        public void clear() {
+            checkForComodification();
+            if (length > 0) {
+                unshare();
+                detach(offset, offset + length);
+                length = 0;
+                expectedModCount = modCount;
+            }
+        }
+        
+        @Override
+        public String toString() {
+            return Arrays.toString(toArray());
+        }
+        
+        private Node first() {
+            return length == 0 ? null : node(offset);
+        }
+        
+        private void checkIndex(int index) {
+            checkForComodification();
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+            }
+        }
+        
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+    
+    // Hash map from a value to the first node holding it. The nodes that share a value
+    // form a chain through nextSame/prevSame in list order; the first node's prevSame
+    // points at the last one, so both ends of a chain are one step away.
+    private class ValueIndex {
+        private HashMap<T, Node> firsts;
+        
+        ValueIndex(int expectedValues) {
+            firsts = new HashMap<>(Math.max(16, expectedValues * 4 / 3 + 1));
+        }
+        
+        // First node, in list order, holding value (null if there is none)
+        Node first(T value) {
+            return firsts.get(value);
+        }
+        
+        // Link a node that was just placed in the list into its value's chain. The chain
+        // must stay in list order, so look outwards for the nearest node with an equal value.
+        void add(Node node) {
+            Node first = firsts.get(node.data);
+            
+            if (first == null) {
+                firsts.put(node.data, node);
+                node.prevSame = node;
+                node.nextSame = null;
+                return;
+            }
+            
+            Node before = node.prev;
+            Node after = node.next;
+            while (true) {
+                if (before == null) {
+                    linkFirst(first, node);
+                    return;
+                }
+                if (Objects.equals(before.data, node.data)) {
+                    linkAfter(first, before, node);
+                    return;
+                }
+                if (after == null) {
+                    linkAfter(first, first.prevSame, node);
+                    return;
+                }
+                if (Objects.equals(after.data, node.data)) {
+                    if (after == first) {
+                        linkFirst(first, node);
+                    } else {
+                        linkAfter(first, after.prevSame, node);
+                    }
+                    return;
+                }
+                before = before.prev;
+                after = after.next;
+            }
+        }
+        
+        // Link node at the end of its value's chain (used when rebuilding in list order)
+        void append(Node node) {
+            Node first = firsts.putIfAbsent(node.data, node);
+            
+            if (first == null) {
+                node.prevSame = node;
+                node.nextSame = null;
+            } else {
+                linkAfter(first, first.prevSame, node);
+            }
+        }
+        
+        // Unlink node from its value's chain
+        void remove(Node node) {
+            Node first = firsts.get(node.data);
+            
+            if (node == first) {
+                Node second = node.nextSame;
+                if (second == null) {
+                    firsts.remove(node.data);
+                } else {
+                    second.prevSame = node.prevSame;
+                    firsts.put(node.data, second);
+                }
+            } else {
+                node.prevSame.nextSame = node.nextSame;
+                if (node.nextSame == null) {
+                    first.prevSame = node.prevSame;
+                } else {
+                    node.nextSame.prevSame = node.prevSame;
+                }
+            }
+            
+            node.nextSame = null;
+            node.prevSame = null;
+        }
+        
+        // Forget every value (a new map, so a once-huge table does not linger)
+        void clear() {
+            firsts = new HashMap<>();
+        }
+        
+        private void linkFirst(Node first, Node node) {
+            node.nextSame = first;
+            node.prevSame = first.prevSame;
+            first.prevSame = node;
+            firsts.put(node.data, node);
+        }
+        
+        private void linkAfter(Node first, Node before, Node node) {
+            node.prevSame = before;
+            node.nextSame = before.nextSame;
+            if (before.nextSame == null) {
+                first.prevSame = node;
+            } else {
+                before.nextSame.prevSame = node;
+            }
+            before.nextSame = node;
+        }
+    }
+    
+    // Main method for testing
+    public static void main(String[] args) throws IOException {
+        GenericLinkedList<Integer> list = new GenericLinkedList<>();
+        
+        // Test insertions
+        list.insertAtHead(10);
+        list.insertAtHead(5);
+        list.insertAtTail(20);
+        list.insertAtTail(30);
+        list.insertAtIndex(2, 15);
+        
+        System.out.println("After insertions: " + list);
+        System.out.println("Size: " + list.size());
+        
+        // Test search
+        System.out.println("Search 15: " + list.search(15));
+        System.out.println("Contains 25: " + list.contains(25));
+        
+        // Test get/set
+        System.out.println("Element at index 2: " + list.get(2));
+        list.set(2, 25);
+        System.out.println("After setting index 2 to 25: " + list);
+        
+        // Test deletions
+        System.out.println("Deleted from head: " + list.deleteFromHead());
+        System.out.println("Deleted from tail: " + list.deleteFromTail());
+        System.out.println("After deletions: " + list);
+        
+        // Test reverse
+        list.reverse();
+        System.out.println("After reverse: " + list);
+        
+        // Test sorting
+        list.insertAtTail(5);
+        list.insertAtTail(40);
+        list.sort(Comparator.naturalOrder());
+        System.out.println("After sorting: " + list);
+        list.sort(Comparator.reverseOrder());
+        System.out.println("After sorting in reverse: " + list);
+        
+        // Test indexed positional access
+        list.enableSkipListIndex();
+        list.insertAtIndex(2, 22);
+        System.out.println("With skip-list index, element at index 2: " + list.get(2));
+        System.out.println("Deleted at index 3: " + list.deleteAtIndex(3));
+        System.out.println("After indexed operations: " + list);
+        list.disableSkipListIndex();
+        
+        // Test hash-indexed membership
+        list.enableHashIndex();
+        System.out.println("With hash index, contains 22: " + list.contains(22));
+        System.out.println("Delete 22: " + list.deleteByValue(22) + ", search 22: " + list.search(22));
+        list.disableHashIndex();
+        
+        // Test iteration and streams
+        int total = 0;
+        for (int value : list) {
+            total += value;
+        }
+        System.out.println("Sum by iteration: " + total);
+        System.out.println("Even elements by stream: " + list.stream().filter(v -> v % 2 == 0).count());
+        GenericLinkedList<Integer> large = new GenericLinkedList<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            large.insertAtTail(i);
+        }
+        System.out.println("Sum of " + large.size() + " elements by parallel stream: "
+                + large.parallelStream().mapToLong(Integer::longValue).sum());
+        
+        // Test binary snapshots with a pluggable element codec
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        list.writeTo(Channels.newChannel(snapshot), ElementCodec.integers());
+        GenericLinkedList<Integer> restored = new GenericLinkedList<>();
+        restored.readFrom(Channels.newChannel(new ByteArrayInputStream(snapshot.toByteArray())),
+                ElementCodec.integers());
+        System.out.println("Restored from a " + snapshot.size() + "-byte snapshot: " + restored);
+        
+        // Test node pooling: after the first round, inserts reuse the deleted nodes
+        list.enableNodePool(64);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 10; i++) {
+                list.insertAtHead(i);
+            }
+            for (int i = 0; i < 10; i++) {
+                list.deleteFromHead();
+            }
+        }
+        System.out.println("After pooled inserts and deletes: " + list);
+        list.disableNodePool();
+        
+        // Test the list iterator: replace, insert and remove while walking
+        ListIterator<Integer> iterator = list.listIterator();
+        while (iterator.hasNext()) {
+            int value = iterator.next();
+            if (value == 10) {
+                iterator.set(11);
+            } else if (value == 25) {
+                iterator.add(26);
+            }
+        }
+        System.out.println("After editing through the list iterator: " + list);
+        
+        // Test O(1) snapshots: the snapshot keeps its contents while the list changes
+        ListSnapshot<Integer> frozen = list.snapshot();
+        list.insertAtHead(1);
+        list.insertAtTail(99);
+        list.deleteAtIndex(2);
+        System.out.println("Snapshot: " + frozen + ", list after changes: " + list);
+        
+        // Test an iterator that outlives a snapshot: set() copies the shared nodes, and the
+        // iterator moves over to the copies instead of writing into the snapshot
+        ListIterator<Integer> editor = list.listIterator(1);
+        editor.next();
+        frozen = list.snapshot();
+        list.set(0, 7);
+        editor.set(8);
+        editor.remove();
+        System.out.println("Snapshot: " + frozen + ", list edited around it: " + list + ", size " + list.size());
+        
+        // Test distinct
+        list.insertAtTail(25);
+        list.insertAtHead(40);
+        System.out.println("Before distinct: " + list);
+        list.distinct();
+        System.out.println("After distinct: " + list);
+        
+        // Test splitting and joining lists without copying nodes
+        GenericLinkedList<Integer> back = list.splitAt(list.size() / 2);
+        System.out.println("Split into " + list + " and " + back);
+        GenericLinkedList<Integer>.SubListView window = back.subListView(0, 1);
+        System.out.println("Window " + window + " of " + back + " contains " + window.stream().count() + " element(s)");
+        window.clear();
+        list.appendAll(back);
+        System.out.println("Joined again without the window: " + list + ", other list: " + back);
+        
+        // Test first and last
+        System.out.println("First element: " + list.getFirst());
+        System.out.println("Last element: " + list.getLast());
+        
+        // Display final state
+        list.display();
+        
+        // Show the recorded metrics (run with -Dlinkedlist.metrics=true to record them)
+        if (ListMetrics.ENABLED) {
+            for (OperationStats stats : metrics().snapshot()) {
+                if (stats.getCount() > 0) {
+                    System.out.println(stats);
+                }
+            }
+        }
     }
 }
@@ -0,0 +1,86 @@
+package LinkedList;
+
+// Set of ints stored unboxed in one open-addressing table with linear probing, so
+// adding a value allocates nothing (except when the table doubles). 0 marks an empty
+// slot; the value 0 itself is tracked by a separate flag.
+class IntHashSet {
+    
+    private static final int MIN_CAPACITY = 16;
+    
+    private int[] keys;
+    private int mask;
+    private int count;
+    private boolean containsZero;
+    
+    IntHashSet() {
+        this.keys = new int[MIN_CAPACITY];
+        this.mask = MIN_CAPACITY - 1;
+    }
+    
+    // Add value; returns true if it was not in the set yet
+    boolean add(int value) {
+        if (value == 0) {
+            boolean added = !containsZero;
+            containsZero = true;
+            return added;
+        }
+        
+        int slot = hash(value) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        
+        keys[slot] = value;
+        if (++count * 2 > keys.length) {
+            grow();
+        }
+        return true;
+    }
+    
+    // Check if value is in the set
+    boolean contains(int value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        
+        int slot = hash(value) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+    
+    // Number of values in the set
+    int size() {
+        return count + (containsZero ? 1 : 0);
+    }
+    
+    // Double the table, keeping it at most half full
+    private void grow() {
+        int[] oldKeys = keys;
+        keys = new int[oldKeys.length * 2];
+        mask = keys.length - 1;
+        
+        for (int key : oldKeys) {
+            if (key != 0) {
+                int slot = hash(key) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+    
+    // Spread the bits so runs of consecutive values do not cluster
+    private static int hash(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,33 @@
+// Generated from LinkedList/templates/PrimitiveListIterator.java.template by GeneratePrimitiveLists.java;
+// edit the template and regenerate instead of changing this file.
+package LinkedList;
+
+import java.util.PrimitiveIterator;
+
+// Bidirectional iterator over an IntigerLinkedList that hands out unboxed ints: the
+// primitive counterpart of java.util.ListIterator<Integer>. The cursor sits between two
+// elements; next and previous move it, and remove/set act on the element returned last.
+public interface IntListIterator extends PrimitiveIterator.OfInt {
+    
+    // Check if there is an element before the cursor
+    boolean hasPrevious();
+    
+    // Move the cursor back and return the element it passed
+    int previousInt();
+    
+    // Index of the element nextInt() would return (size at the end)
+    int nextIndex();
+    
+    // Index of the element previousInt() would return (-1 at the start)
+    int previousIndex();
+    
+    // Remove the element returned by the last nextInt() or previousInt()
+    @Override
+    void remove();
+    
+    // Replace the element returned by the last nextInt() or previousInt()
+    void set(int value);
+    
+    // Insert value in front of the cursor; nextInt() is unaffected, previousInt() returns it
+    void add(int value);
+}
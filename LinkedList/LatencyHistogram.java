@@ -0,0 +1,90 @@
+package LinkedList;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Lock-free latency histogram with HdrHistogram-style log-linear buckets: values below 32
+// get a bucket each, and every power of two above that is split into 32 equal buckets, so
+// any recorded value is known to within about 3%. Recording is one atomic increment, safe
+// from any number of threads; readers copy the counts and work on the copy.
+//
+//   [0] [1] ... [31] | [32] [33] ... [63] | [64..65] ... [126..127] | [128..131] ...
+//     width 1              width 1                width 2                  width 4
+class LatencyHistogram {
+    
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    
+    // Values of 2^40 ns (about 18 minutes) and more all land in the last bucket
+    private static final int MAX_MAGNITUDE = 40;
+    private static final int BUCKETS = SUB_BUCKETS + (MAX_MAGNITUDE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    
+    // Count one value (negative values count as 0)
+    void record(long value) {
+        counts.incrementAndGet(bucketOf(value));
+    }
+    
+    // Copy of the bucket counts, for valueAtPercentile
+    long[] counts() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+        }
+        return copy;
+    }
+    
+    // Forget every value
+    void clear() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+    }
+    
+    // Smallest recorded value that percent of the values (0 to 100) are at or below, given
+    // as the highest value its bucket can hold; 0 when nothing was recorded
+    static long valueAtPercentile(long[] counts, double percent) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        
+        long rank = Math.max(1, (long) Math.ceil(percent / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return highestValueIn(i);
+            }
+        }
+        return highestValueIn(counts.length - 1);
+    }
+    
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(value, 0);
+        }
+        
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        if (magnitude >= MAX_MAGNITUDE) {
+            return BUCKETS - 1;
+        }
+        
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+    
+    private static long highestValueIn(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        
+        int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        long lowest = (long) (SUB_BUCKETS + (bucket - SUB_BUCKETS) % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
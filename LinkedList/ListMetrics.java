@@ -0,0 +1,145 @@
+package LinkedList;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+// Optional per-operation metrics for the lists: how many operations ran, how many nodes they
+// stepped over, how many nodes they allocated, and how long they took. Switched on for the
+// whole JVM with -Dlinkedlist.metrics=true. ENABLED is a static final constant, so with it
+// off the JIT drops every "if (ListMetrics.ENABLED)" branch in the lists, including the
+// System.nanoTime() calls, and the operations compile as if they had no instrumentation.
+//
+// Each list class records into one ListMetrics shared by all its instances, from any number
+// of threads without locks (LongAdder counters and a LatencyHistogram per operation). Read
+// it with snapshot(), or over JMX as LinkedList:type=ListMetrics,name=<list class>.
+public final class ListMetrics implements ListMetricsMXBean {
+    
+    public static final boolean ENABLED = Boolean.getBoolean("linkedlist.metrics");
+    
+    // The operations that are measured
+    public enum Operation {
+        INSERT_AT_HEAD,
+        INSERT_AT_TAIL,
+        INSERT_AT_INDEX,
+        DELETE_FROM_HEAD,
+        DELETE_FROM_TAIL,
+        DELETE_AT_INDEX,
+        DELETE_BY_VALUE,
+        GET,
+        SET,
+        SEARCH,
+        CONTAINS
+    }
+    
+    private static final Operation[] OPERATIONS = Operation.values();
+    
+    // Counters for one operation
+    private static class OperationMetrics {
+        final LongAdder count = new LongAdder();
+        final LongAdder nodesTraversed = new LongAdder();
+        final LongAdder allocations = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        final LatencyHistogram latencies = new LatencyHistogram();
+    }
+    
+    private final String listName;
+    
+    // One entry per Operation; null when metrics are disabled, so they cost no memory then
+    private final OperationMetrics[] operations;
+    
+    private ListMetrics(String listName) {
+        this.listName = listName;
+        if (ENABLED) {
+            operations = new OperationMetrics[OPERATIONS.length];
+            for (int i = 0; i < operations.length; i++) {
+                operations[i] = new OperationMetrics();
+            }
+        } else {
+            operations = null;
+        }
+    }
+    
+    // Metrics for one list class, registered with the platform MBean server when enabled
+    static ListMetrics forList(String listName) {
+        ListMetrics metrics = new ListMetrics(listName);
+        if (ENABLED) {
+            try {
+                ObjectName name = new ObjectName("LinkedList:type=ListMetrics,name=" + listName);
+                ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, name);
+            } catch (JMException e) {
+                throw new IllegalStateException("Cannot register metrics for " + listName, e);
+            }
+        }
+        return metrics;
+    }
+    
+    // Record one finished operation. Only called when ENABLED is true.
+    void record(Operation operation, long nanos, int nodesTraversed, int allocations) {
+        OperationMetrics metrics = operations[operation.ordinal()];
+        metrics.count.increment();
+        if (nodesTraversed != 0) {
+            metrics.nodesTraversed.add(nodesTraversed);
+        }
+        if (allocations != 0) {
+            metrics.allocations.add(allocations);
+        }
+        metrics.totalNanos.add(nanos);
+        metrics.maxNanos.accumulate(nanos);
+        metrics.latencies.record(nanos);
+    }
+    
+    @Override
+    public String getListName() {
+        return listName;
+    }
+    
+    // Current numbers for one operation (all zero when metrics are disabled)
+    public OperationStats snapshot(Operation operation) {
+        if (operations == null) {
+            return new OperationStats(operation.name(), 0, 0, 0, 0, 0, new long[0]);
+        }
+        
+        // The counters are read one after the other while other threads may keep recording,
+        // so the numbers can be off by the operations that finish in between
+        OperationMetrics metrics = operations[operation.ordinal()];
+        return new OperationStats(operation.name(), metrics.count.sum(), metrics.nodesTraversed.sum(),
+                metrics.allocations.sum(), metrics.totalNanos.sum(), metrics.maxNanos.get(),
+                metrics.latencies.counts());
+    }
+    
+    // Current numbers for every operation
+    public List<OperationStats> snapshot() {
+        List<OperationStats> stats = new ArrayList<>(OPERATIONS.length);
+        for (Operation operation : OPERATIONS) {
+            stats.add(snapshot(operation));
+        }
+        return stats;
+    }
+    
+    @Override
+    public List<OperationStats> getOperations() {
+        return snapshot();
+    }
+    
+    @Override
+    public void reset() {
+        if (operations == null) {
+            return;
+        }
+        
+        for (OperationMetrics metrics : operations) {
+            metrics.count.reset();
+            metrics.nodesTraversed.reset();
+            metrics.allocations.reset();
+            metrics.totalNanos.reset();
+            metrics.maxNanos.reset();
+            metrics.latencies.clear();
+        }
+    }
+}
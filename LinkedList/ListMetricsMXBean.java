@@ -0,0 +1,17 @@
+package LinkedList;
+
+import java.util.List;
+
+// JMX view of a ListMetrics, registered as LinkedList:type=ListMetrics,name=<list class>
+// when metrics are enabled. Each OperationStats shows up as one CompositeData row.
+public interface ListMetricsMXBean {
+    
+    // Name of the list class the numbers belong to
+    String getListName();
+    
+    // Current numbers for every operation, in ListMetrics.Operation order
+    List<OperationStats> getOperations();
+    
+    // Start counting from zero again
+    void reset();
+}
@@ -0,0 +1,51 @@
+package LinkedList;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Read-only list that never changes once created, so any number of threads may read it
+// at the same time without locks. Returned by GenericLinkedList.snapshot() and
+// implemented by PersistentLinkedList.
+public interface ListSnapshot<T> extends Iterable<T> {
+    
+    // Get the number of elements
+    int size();
+    
+    // Get element at specific index
+    T get(int index);
+    
+    // Get the first element
+    T getFirst();
+    
+    // Get the last element
+    T getLast();
+    
+    // Search for a value and return its index (-1 if not found)
+    int search(T value);
+    
+    // Convert to array
+    Object[] toArray();
+    
+    // Check if the snapshot is empty
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+    
+    // Check if the snapshot contains a value
+    default boolean contains(T value) {
+        return search(value) != -1;
+    }
+    
+    // The size is known up front and the elements never change
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+    
+    // Sequential stream over the elements, first to last
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+}
@@ -0,0 +1,86 @@
+package LinkedList;
+
+// Set of longs stored unboxed in one open-addressing table with linear probing: the
+// 64-bit counterpart of IntHashSet. LongLinkedList stores its values here and
+// DoubleLinkedList the bits of its values (Double.doubleToLongBits), so both sets see
+// values as equal exactly when Long.equals or Double.equals would.
+class LongHashSet {
+    
+    private static final int MIN_CAPACITY = 16;
+    
+    private long[] keys;
+    private int mask;
+    private int count;
+    private boolean containsZero;
+    
+    LongHashSet() {
+        this.keys = new long[MIN_CAPACITY];
+        this.mask = MIN_CAPACITY - 1;
+    }
+    
+    // Add value; returns true if it was not in the set yet
+    boolean add(long value) {
+        if (value == 0) {
+            boolean added = !containsZero;
+            containsZero = true;
+            return added;
+        }
+        
+        int slot = hash(value) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        
+        keys[slot] = value;
+        if (++count * 2 > keys.length) {
+            grow();
+        }
+        return true;
+    }
+    
+    // Check if value is in the set
+    boolean contains(long value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        
+        int slot = hash(value) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+    
+    // Number of values in the set
+    int size() {
+        return count + (containsZero ? 1 : 0);
+    }
+    
+    // Double the table, keeping it at most half full
+    private void grow() {
+        long[] oldKeys = keys;
+        keys = new long[oldKeys.length * 2];
+        mask = keys.length - 1;
+        
+        for (long key : oldKeys) {
+            if (key != 0) {
+                int slot = hash(key) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+    
+    // Fibonacci hashing: the high half of the product depends on every bit of the value
+    private static int hash(long value) {
+        return (int) ((value * 0x9E3779B97F4A7C15L) >>> 32);
+    }
+}
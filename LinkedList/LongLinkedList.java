@@ -0,0 +1,1962 @@
+// Generated from LinkedList/templates/PrimitiveLinkedList.java.template by GeneratePrimitiveLists.java;
+// edit the template and regenerate instead of changing this file.
+package LinkedList;
+
+import LinkedList.ListMetrics.Operation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.LongSummaryStatistics;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
+
+// Doubly linked list of unboxed longs with the whole IntigerLinkedList API: the same
+// optional indexes, pool, statistics, iterators, snapshots and views, and aggregates that
+// work in long. IntigerLinkedList, LongLinkedList and DoubleLinkedList are generated from
+// the same template, so they cannot drift apart.
+public class LongLinkedList {
+    
+    // Node class to represent individual elements
+    private class Node {
+        long data;
+        Node next;
+        Node prev;
+        // Neighbours with the same value, in list order (only used by the hash index)
+        Node nextSame;
+        Node prevSame;
+        
+        Node(long data) {
+            this.data = data;
+            this.next = null;
+            this.prev = null;
+        }
+    }
+    
+    // Chains shorter than this are sorted on the calling thread by parallelSort
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+    
+    // The parallel aggregates give each task at least this many elements
+    private static final int PARALLEL_AGGREGATE_THRESHOLD = 1 << 14;
+    
+    // With the skip-list index, a cursor further away than this is not worth walking from
+    private static final int CURSOR_REACH = 64;
+    
+    // Metrics shared by every LongLinkedList (see ListMetrics; inert unless enabled)
+    private static final ListMetrics METRICS = ListMetrics.forList("LongLinkedList");
+    
+    private Node head;
+    private Node tail;
+    private int size;
+    
+    // Number of structural changes, so iterators can detect modification during iteration
+    private int modCount;
+    
+    // Node found by the last positional lookup and its index (-1 when unknown), so nearby
+    // indices are found from there instead of from an end of the list
+    private Node cursor;
+    private int cursorIndex;
+    
+    // Nodes stepped over and allocated by the operation in progress; only counted while
+    // metrics are enabled
+    private int traversedNodes;
+    private int allocatedNodes;
+    
+    // Optional skip-list index for O(log n) positional access (null when disabled)
+    private SkipListIndex<Node> skipIndex;
+    
+    // Optional hash index from value to its nodes for O(1) membership (null when disabled)
+    private ValueIndex valueIndex;
+    
+    // Optional pool of unlinked nodes, chained through next, reused by the next insert
+    private Node pool;
+    private int poolSize;
+    private int poolCapacity;
+    
+    // Optional running sum and value counts for fast aggregates (null when disabled)
+    private RunningStatistics statistics;
+    
+    // Constructor
+    public LongLinkedList() {
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+        this.cursorIndex = -1;
+    }
+    
+    // Counts, nodes traversed, allocations and latencies of the operations of every
+    // LongLinkedList, recorded when the JVM runs with -Dlinkedlist.metrics=true
+    public static ListMetrics metrics() {
+        return METRICS;
+    }
+    
+    // Insert at the beginning of the list
+    public void insertAtHead(long data) {
+        long start = beginMetrics();
+        Node newNode = newNode(data);
+        newNode.next = head;
+        
+        if (head == null) {
+            tail = newNode;
+        } else {
+            head.prev = newNode;
+        }
+        head = newNode;
+        size++;
+        nodeInserted(newNode, 0);
+        endMetrics(Operation.INSERT_AT_HEAD, start);
+    }
+    
+    // Insert at the end of the list (O(1) thanks to the tail pointer)
+    public void insertAtTail(long data) {
+        long start = beginMetrics();
+        Node newNode = newNode(data);
+        newNode.prev = tail;
+        
+        if (tail == null) {
+            head = newNode;
+        } else {
+            tail.next = newNode;
+        }
+        tail = newNode;
+        size++;
+        nodeInserted(newNode, size - 1);
+        endMetrics(Operation.INSERT_AT_TAIL, start);
+    }
+    
+    // Insert at specific index
+    public void insertAtIndex(int index, long data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        if (index == 0) {
+            insertAtHead(data);
+            return;
+        }
+        
+        if (index == size) {
+            insertAtTail(data);
+            return;
+        }
+        
+        long start = beginMetrics();
+        linkBefore(node(index), data, index);
+        endMetrics(Operation.INSERT_AT_INDEX, start);
+    }
+    
+    // Delete from the beginning
+    public long deleteFromHead() {
+        if (head == null) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        long start = beginMetrics();
+        long data = head.data;
+        unlink(head, 0);
+        endMetrics(Operation.DELETE_FROM_HEAD, start);
+        return data;
+    }
+    
+    // Delete from the end (O(1) thanks to the prev pointers)
+    public long deleteFromTail() {
+        if (tail == null) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        long start = beginMetrics();
+        long data = tail.data;
+        unlink(tail, size - 1);
+        endMetrics(Operation.DELETE_FROM_TAIL, start);
+        return data;
+    }
+    
+    // Delete from specific index
+    public long deleteAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        long start = beginMetrics();
+        Node target = node(index);
+        long data = target.data;
+        unlink(target, index);
+        endMetrics(Operation.DELETE_AT_INDEX, start);
+        return data;
+    }
+    
+    // Delete by value (first occurrence)
+    public boolean deleteByValue(long value) {
+        long start = beginMetrics();
+        boolean deleted = unlinkFirst(value);
+        endMetrics(Operation.DELETE_BY_VALUE, start);
+        return deleted;
+    }
+    
+    // Search for a value and return its index
+    public int search(long value) {
+        long start = beginMetrics();
+        int index = indexOf(value);
+        endMetrics(Operation.SEARCH, start);
+        return index;
+    }
+    
+    // Get element at specific index
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        long start = beginMetrics();
+        long data = node(index).data;
+        endMetrics(Operation.GET, start);
+        return data;
+    }
+    
+    // Update element at specific index
+    public void set(int index, long data) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        long start = beginMetrics();
+        replace(node(index), data);
+        endMetrics(Operation.SET, start);
+    }
+    
+    // Check if list contains a value
+    public boolean contains(long value) {
+        long start = beginMetrics();
+        boolean found = (valueIndex != null) ? valueIndex.first(value) != null : indexOf(value) != -1;
+        endMetrics(Operation.CONTAINS, start);
+        return found;
+    }
+    
+    // Count occurrences of a value
+    public int countOccurrences(long value) {
+        int count = 0;
+        
+        if (valueIndex != null) {
+            for (Node same = valueIndex.first(value); same != null; same = same.nextSame) {
+                count++;
+            }
+            return count;
+        }
+        
+        Node current = head;
+        
+        while (current != null) {
+            if (current.data == value) {
+                count++;
+            }
+            current = current.next;
+        }
+        
+        return count;
+    }
+    
+    // Get the size of the list
+    public int size() {
+        return size;
+    }
+    
+    // Check if list is empty
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    // Clear the entire list
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+        dropCursor();
+        
+        if (skipIndex != null) {
+            skipIndex.clear();
+        }
+        if (valueIndex != null) {
+            valueIndex.clear();
+        }
+        if (statistics != null) {
+            statistics.clear();
+        }
+    }
+    
+    // Reverse the linked list by swapping each node's next and prev
+    public void reverse() {
+        Node current = head;
+        
+        while (current != null) {
+            Node next = current.next;
+            current.next = current.prev;
+            current.prev = next;
+            current = next;
+        }
+        
+        Node oldHead = head;
+        head = tail;
+        tail = oldHead;
+        modCount++;
+        nodesReordered();
+    }
+    
+    // Get the first element
+    public long getFirst() {
+        if (head == null) {
+            throw new RuntimeException("List is empty");
+        }
+        return head.data;
+    }
+    
+    // Get the last element
+    public long getLast() {
+        if (tail == null) {
+            throw new RuntimeException("List is empty");
+        }
+        return tail.data;
+    }
+    
+    // Find minimum value
+    public long findMin() {
+        if (head == null) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        if (statistics != null) {
+            return statistics.min();
+        }
+        
+        long min = head.data;
+        Node current = head.next;
+        
+        while (current != null) {
+            if (current.data < min) {
+                min = current.data;
+            }
+            current = current.next;
+        }
+        
+        return min;
+    }
+    
+    // Find maximum value
+    public long findMax() {
+        if (head == null) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        if (statistics != null) {
+            return statistics.max();
+        }
+        
+        long max = head.data;
+        Node current = head.next;
+        
+        while (current != null) {
+            if (max < current.data) {
+                max = current.data;
+            }
+            current = current.next;
+        }
+        
+        return max;
+    }
+    
+    // Calculate sum of all elements
+    public long sum() {
+        if (statistics != null) {
+            return statistics.sum();
+        }
+        
+        long sum = 0;
+        Node current = head;
+        
+        while (current != null) {
+            sum += current.data;
+            current = current.next;
+        }
+        
+        return sum;
+    }
+    
+    // Calculate average of all elements
+    public double average() {
+        if (size == 0) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        return summaryStatistics().getAverage();
+    }
+    
+    // Count, sum, min, max and average in a single pass
+    public LongSummaryStatistics summaryStatistics() {
+        if (statistics != null && size > 0) {
+            return new LongSummaryStatistics(size, statistics.min(), statistics.max(), statistics.sum());
+        }
+        return statisticsOf(head, size);
+    }
+    
+    // summaryStatistics() computed by several threads. Each thread needs a starting node,
+    // which the skip-list index finds in O(log n); without the index, finding them would
+    // cost a full pass of its own, so this runs sequentially instead.
+    public LongSummaryStatistics parallelSummaryStatistics() {
+        if (statistics != null) {
+            return summaryStatistics();
+        }
+        
+        Node[] starts = pieceStarts();
+        if (starts == null) {
+            return summaryStatistics();
+        }
+        
+        return IntStream.range(0, starts.length)
+                .parallel()
+                .mapToObj(piece -> statisticsOf(starts[piece], pieceLength(piece, starts.length)))
+                .collect(LongSummaryStatistics::new, LongSummaryStatistics::combine, LongSummaryStatistics::combine);
+    }
+    
+    // countOccurrences() computed by several threads (see parallelSummaryStatistics)
+    public int parallelCountOccurrences(long value) {
+        Node[] starts = pieceStarts();
+        if (starts == null || valueIndex != null) {
+            return countOccurrences(value);
+        }
+        
+        return IntStream.range(0, starts.length)
+                .parallel()
+                .map(piece -> countOf(starts[piece], pieceLength(piece, starts.length), value))
+                .sum();
+    }
+    
+    // Convert to array
+    public long[] toArray() {
+        long[] array = new long[size];
+        Node current = head;
+        int index = 0;
+        
+        while (current != null) {
+            array[index++] = current.data;
+            current = current.next;
+        }
+        
+        return array;
+    }
+    
+    // Iterate from head to tail over unboxed longs (fail-fast, like listIterator())
+    public PrimitiveIterator.OfLong iterator() {
+        return new NodeIterator(0);
+    }
+    
+    // Bidirectional iterator starting at the head, with add, remove and set in O(1)
+    // (add and set walk to the nearest equal value while the hash index is enabled).
+    // It is fail-fast: changing the list other than through the iterator itself makes
+    // the next call throw ConcurrentModificationException.
+    public LongListIterator listIterator() {
+        return new NodeIterator(0);
+    }
+    
+    // Bidirectional iterator whose first nextLong() returns the element at index
+    public LongListIterator listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return new NodeIterator(index);
+    }
+    
+    // Write the list to channel as a compact binary snapshot: blocks of zig-zag delta
+    // varints, each with a CRC32 (see SnapshotWriter for the format)
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        SnapshotWriter writer = new SnapshotWriter(channel, SnapshotWriter.KIND_LONG);
+        for (Node current = head; current != null; current = current.next) {
+            writer.writeLong(current.data);
+        }
+        writer.finish();
+    }
+    
+    // Replace the contents with a snapshot written by writeTo. The new nodes are linked on
+    // the side and only swapped in at the end, so a truncated or corrupt snapshot throws
+    // IOException and leaves the list unchanged.
+    public void readFrom(ReadableByteChannel channel) throws IOException {
+        SnapshotReader reader = new SnapshotReader(channel, SnapshotWriter.KIND_LONG);
+        Node first = null;
+        Node last = null;
+        int count = 0;
+        
+        while (reader.nextBlock()) {
+            for (int i = reader.remaining(); i > 0; i--) {
+                Node node = newNode(reader.nextLong());
+                if (first == null) {
+                    first = node;
+                } else {
+                    last.next = node;
+                    node.prev = last;
+                }
+                last = node;
+                count++;
+            }
+        }
+        
+        clear();
+        head = first;
+        tail = last;
+        size = count;
+        nodesReordered();
+        
+        if (statistics != null) {
+            for (Node current = head; current != null; current = current.next) {
+                statistics.add(current.data);
+            }
+        }
+    }
+    
+    // Sort the list (bottom-up merge sort that relinks nodes, O(n log n) time, O(1) extra space)
+    public void sort() {
+        head = mergeSort(head, size);
+        restorePrevLinks();
+        modCount++;
+        nodesReordered();
+    }
+    
+    // Sort the list using the fork-join common pool to sort halves concurrently
+    public void parallelSort() {
+        if (size < PARALLEL_SORT_THRESHOLD) {
+            sort();
+            return;
+        }
+        
+        head = ForkJoinPool.commonPool().invoke(new SortTask(head, size));
+        restorePrevLinks();
+        modCount++;
+        nodesReordered();
+    }
+    
+    // Remove duplicates
+    public void removeDuplicates() {
+        if (head == null) {
+            return;
+        }
+        
+        Node current = head;
+        int index = 0;
+        while (current.next != null) {
+            if (current.data == current.next.data) {
+                unlink(current.next, index + 1);
+            } else {
+                current = current.next;
+                index++;
+            }
+        }
+    }
+    
+    // Remove every repeated value, keeping each value's first occurrence (removeDuplicates
+    // only catches repeats that are next to each other). One pass with a primitive hash set
+    // of the values seen so far, O(n) expected time. With the hash index enabled no set is
+    // needed: a node is a first occurrence exactly when it heads its value's chain.
+    public void distinct() {
+        LongHashSet seen = valueIndex == null ? new LongHashSet() : null;
+        Node current = head;
+        int index = 0;
+        
+        while (current != null) {
+            Node next = current.next;
+            boolean first = seen != null ? seen.add(current.data) : valueIndex.first(current.data) == current;
+            if (first) {
+                index++;
+            } else {
+                unlink(current, index);
+            }
+            current = next;
+        }
+    }
+    
+    // distinct() for lists too large to keep a set of every value. A first pass runs the
+    // values through a Bloom filter of about filterBytes bytes; only values the filter has
+    // probably seen before can be repeats, and just those go into an exact set. A second
+    // pass then drops the later occurrences of those candidates. Memory is the filter plus
+    // the repeated values and the filter's few false positives.
+    public void distinctBounded(long filterBytes) {
+        if (filterBytes <= 0) {
+            throw new IllegalArgumentException("Filter size must be positive: " + filterBytes);
+        }
+        
+        BloomFilter filter = new BloomFilter(filterBytes, size);
+        LongHashSet candidates = new LongHashSet();
+        for (Node current = head; current != null; current = current.next) {
+            if (filter.add(current.data)) {
+                candidates.add(current.data);
+            }
+        }
+        
+        LongHashSet seen = new LongHashSet();
+        Node current = head;
+        int index = 0;
+        while (current != null) {
+            Node next = current.next;
+            if (!candidates.contains(current.data) || seen.add(current.data)) {
+                index++;
+            } else {
+                unlink(current, index);
+            }
+            current = next;
+        }
+    }
+    
+    // Move every element of other to the end of this list and leave other empty. The nodes
+    // change owner as they are, so the relinking is O(1); only the optional indexes of this
+    // list, when enabled, visit each moved node to take it in.
+    public void appendAll(LongLinkedList other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot append a list to itself");
+        }
+        if (other.head == null) {
+            return;
+        }
+        
+        Node first = other.head;
+        Node last = other.tail;
+        int count = other.size;
+        other.clear();
+        
+        int index = size;
+        if (tail == null) {
+            head = first;
+        } else {
+            tail.next = first;
+            first.prev = tail;
+        }
+        tail = last;
+        size += count;
+        modCount++;
+        chainAppended(first, index);
+    }
+    
+    // Cut the list in two: this list keeps the elements before index and the rest move, in
+    // order, to the returned list. Finding index costs what get(index) costs and the cut is
+    // O(1) relinking. The returned list starts without any of the optional indexes.
+    public LongLinkedList splitAt(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        LongLinkedList rest = new LongLinkedList();
+        if (index < size) {
+            Node last = tail;
+            int count = size - index;
+            rest.head = detach(index, size);
+            rest.tail = last;
+            rest.size = count;
+        }
+        return rest;
+    }
+    
+    // Live view of the elements from index from up to (not including) to, in O(1). Reads
+    // and set() go straight to this list's nodes and clear() unlinks the whole range at
+    // once; any other structural change to the list invalidates the view (fail-fast).
+    public SubListView subListView(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("From: " + from + ", To: " + to + ", Size: " + size);
+        }
+        return new SubListView(from, to - from);
+    }
+    
+    // Build a skip-list index so get, set, insertAtIndex and deleteAtIndex take O(log n)
+    // expected time. promotionProbability trades memory (about n * p / (1 - p) index
+    // entries) for speed (about 1 / p steps per level); 0.25 is a good default.
+    public void enableSkipListIndex(double promotionProbability) {
+        skipIndex = new SkipListIndex<>(promotionProbability);
+        nodesReordered();
+    }
+    
+    // Build a skip-list index with the default promotion probability of 0.25
+    public void enableSkipListIndex() {
+        enableSkipListIndex(0.25);
+    }
+    
+    // Drop the skip-list index and go back to walking the list
+    public void disableSkipListIndex() {
+        skipIndex = null;
+    }
+    
+    // Build a hash index from each value to its nodes, so contains, deleteByValue and
+    // countOccurrences take O(1) expected time (O(k) for k copies) and search only has
+    // to count the position of the match. Costs two extra links per node plus the table.
+    // insertAtHead and insertAtTail stay O(1) with the index on, but insertAtIndex, set and
+    // the list iterator's add and set must also find the node's place in its value's
+    // chain: they walk outwards to the nearest equal value or end of the list, O(n) at worst.
+    public void enableHashIndex() {
+        valueIndex = new ValueIndex(size);
+        nodesReordered();
+    }
+    
+    // Drop the hash index and go back to scanning the list
+    public void disableHashIndex() {
+        if (valueIndex == null) {
+            return;
+        }
+        
+        valueIndex = null;
+        for (Node current = head; current != null; current = current.next) {
+            current.nextSame = null;
+            current.prevSame = null;
+        }
+    }
+    
+    // Keep up to capacity deleted nodes and reuse them for later inserts, so a steady mix
+    // of inserts and deletes allocates nothing. clear() drops the nodes instead of pooling them.
+    public void enableNodePool(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Pool capacity must not be negative: " + capacity);
+        }
+        
+        poolCapacity = capacity;
+        while (poolSize > capacity) {
+            pool = pool.next;
+            poolSize--;
+        }
+    }
+    
+    // Release the pooled nodes and allocate a new node for every insert again
+    public void disableNodePool() {
+        enableNodePool(0);
+    }
+    
+    // Display the list
+    public void display() {
+        if (head == null) {
+            System.out.println("List is empty");
+            return;
+        }
+        
+        Node current = head;
+        System.out.print("LongLinkedList: ");
+        while (current != null) {
+            System.out.print(current.data);
+            if (current.next != null) {
+                System.out.print(" -> ");
+            }
+            current = current.next;
+        }
+        System.out.println(" -> null");
+    }
+    
+    // Override toString method
+    @Override
+    public String toString() {
+        if (head == null) {
+            return "[]";
+        }
+        
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        Node current = head;
+        
+        while (current != null) {
+            sb.append(current.data);
+            if (current.next != null) {
+                sb.append(", ");
+            }
+            current = current.next;
+        }
+        
+        sb.append("]");
+        return sb.toString();
+    }
+    
+    // Keep a running sum and a count of every value, so sum, average and summaryStatistics
+    // take O(1) and findMin/findMax O(log n). Every insert, delete and set pays O(log n).
+    public void enableRunningStatistics() {
+        statistics = new RunningStatistics();
+        for (Node current = head; current != null; current = current.next) {
+            statistics.add(current.data);
+        }
+    }
+    
+    // Drop the running statistics and go back to computing aggregates by walking the list
+    public void disableRunningStatistics() {
+        statistics = null;
+    }
+    
+    // Find the node at index and keep it as the cursor for the next lookup. Starts from the
+    // cursor when it is no further than either end (and, with the skip-list index, close
+    // enough that walking beats jumping), so a scan with get(i) or set(i) costs O(1) per step.
+    private Node node(int index) {
+        Node current;
+        int distance = cursorIndex < 0 ? Integer.MAX_VALUE : Math.abs(index - cursorIndex);
+        
+        if (distance <= Math.min(index, size - 1 - index) && (skipIndex == null || distance <= CURSOR_REACH)) {
+            current = walk(cursor, index - cursorIndex);
+        } else {
+            current = locate(index);
+        }
+        
+        cursor = current;
+        cursorIndex = index;
+        return current;
+    }
+    
+    // Find the node at index without reading or moving the cursor, so parallel tasks can
+    // call it at the same time: through the skip-list index when there is one, otherwise
+    // walking from whichever end is closer
+    private Node locate(int index) {
+        if (skipIndex != null) {
+            return skipIndex.nodeAt(index, head, node -> node.next);
+        }
+        
+        if (index < (size >> 1)) {
+            return walk(head, index);
+        }
+        return walk(tail, index - (size - 1));
+    }
+    
+    // Follow steps next links from node, or -steps prev links when steps is negative
+    private Node walk(Node node, int steps) {
+        traversed(Math.abs(steps));
+        Node current = node;
+        for (; steps > 0; steps--) {
+            current = current.next;
+        }
+        for (; steps < 0; steps++) {
+            current = current.prev;
+        }
+        return current;
+    }
+    
+    // Unlink the first node holding value, if there is one
+    private boolean unlinkFirst(long value) {
+        if (valueIndex != null) {
+            Node target = valueIndex.first(value);
+            if (target == null) {
+                return false;
+            }
+            
+            // Only the skip-list index needs the position, so only count it when there is one
+            unlink(target, skipIndex != null ? position(target) : -1);
+            return true;
+        }
+        
+        Node current = head;
+        int index = 0;
+        while (current != null && current.data != value) {
+            current = current.next;
+            index++;
+        }
+        traversed(current == null ? index : index + 1);
+        
+        if (current != null) {
+            unlink(current, index);
+            return true;
+        }
+        
+        return false;
+    }
+    
+    // Index of the first node holding value (-1 if there is none)
+    private int indexOf(long value) {
+        if (valueIndex != null) {
+            Node first = valueIndex.first(value);
+            return (first == null) ? -1 : position(first);
+        }
+        
+        Node current = head;
+        int index = 0;
+        
+        while (current != null) {
+            if (current.data == value) {
+                traversed(index + 1);
+                return index;
+            }
+            current = current.next;
+            index++;
+        }
+        
+        traversed(index);
+        return -1; // Not found
+    }
+    
+    // Link a new node holding data in front of successor, which is at index
+    private void linkBefore(Node successor, long data, int index) {
+        Node newNode = newNode(data);
+        Node before = successor.prev;
+        
+        newNode.prev = before;
+        newNode.next = successor;
+        if (before == null) {
+            head = newNode;
+        } else {
+            before.next = newNode;
+        }
+        successor.prev = newNode;
+        size++;
+        nodeInserted(newNode, index);
+    }
+    
+    // Store data in target, keeping the optional indexes in step
+    private void replace(Node target, long data) {
+        if (statistics != null) {
+            statistics.remove(target.data);
+            statistics.add(data);
+        }
+        
+        if (valueIndex != null) {
+            valueIndex.remove(target);
+            target.data = data;
+            valueIndex.add(target);
+        } else {
+            target.data = data;
+        }
+    }
+    
+    // Count the position of node by walking back to the head
+    private int position(Node node) {
+        int index = 0;
+        for (Node current = node.prev; current != null; current = current.prev) {
+            index++;
+        }
+        traversed(index);
+        return index;
+    }
+    
+    // Remove the node at index from the chain in O(1)
+    private void unlink(Node target, int index) {
+        Node before = target.prev;
+        Node after = target.next;
+        
+        if (before == null) {
+            head = after;
+        } else {
+            before.next = after;
+        }
+        
+        if (after == null) {
+            tail = before;
+        } else {
+            after.prev = before;
+        }
+        
+        target.next = null;
+        target.prev = null;
+        size--;
+        nodeRemoved(target, index);
+        recycle(target);
+    }
+    
+    // A node holding data: a pooled one if there is one, otherwise a new one
+    private Node newNode(long data) {
+        Node node = pool;
+        if (node == null) {
+            if (ListMetrics.ENABLED) {
+                allocatedNodes++;
+            }
+            return new Node(data);
+        }
+        
+        pool = node.next;
+        poolSize--;
+        node.next = null;
+        node.data = data;
+        return node;
+    }
+    
+    // Unlink the elements from index from up to (not including) to as one chain, relinking
+    // in O(1) once both ends are found; returns the first node of the detached chain
+    private Node detach(int from, int to) {
+        Node first = node(from);
+        Node last = node(to - 1);
+        Node before = first.prev;
+        Node after = last.next;
+        
+        if (before == null) {
+            head = after;
+        } else {
+            before.next = after;
+        }
+        
+        if (after == null) {
+            tail = before;
+        } else {
+            after.prev = before;
+        }
+        
+        first.prev = null;
+        last.next = null;
+        size -= to - from;
+        modCount++;
+        dropCursor();
+        chainRemoved(first, from);
+        return first;
+    }
+    
+    // Put an unlinked node back in the pool if there is room for it
+    private void recycle(Node node) {
+        if (poolSize < poolCapacity) {
+            node.next = pool;
+            pool = node;
+            poolSize++;
+        }
+    }
+    
+    // Start measuring an operation: reset its counters and return the start time. With
+    // metrics disabled this and endMetrics are empty after constant folding.
+    private long beginMetrics() {
+        if (!ListMetrics.ENABLED) {
+            return 0;
+        }
+        traversedNodes = 0;
+        allocatedNodes = 0;
+        return System.nanoTime();
+    }
+    
+    private void endMetrics(Operation operation, long start) {
+        if (ListMetrics.ENABLED) {
+            METRICS.record(operation, System.nanoTime() - start, traversedNodes, allocatedNodes);
+        }
+    }
+    
+    private void traversed(int nodes) {
+        if (ListMetrics.ENABLED) {
+            traversedNodes += nodes;
+        }
+    }
+    
+    // Keep the optional indexes in step with a node linked in at index
+    private void nodeInserted(Node node, int index) {
+        modCount++;
+        if (index <= cursorIndex) {
+            cursorIndex++;
+        }
+        if (skipIndex != null) {
+            skipIndex.inserted(index, node);
+        }
+        if (valueIndex != null) {
+            valueIndex.add(node);
+        }
+        if (statistics != null) {
+            statistics.add(node.data);
+        }
+    }
+    
+    // Keep the optional indexes in step with a node unlinked from index
+    private void nodeRemoved(Node node, int index) {
+        modCount++;
+        if (node == cursor || index < 0) {
+            dropCursor();
+        } else if (index < cursorIndex) {
+            cursorIndex--;
+        }
+        if (skipIndex != null) {
+            skipIndex.removed(index, node);
+        }
+        if (valueIndex != null) {
+            valueIndex.remove(node);
+        }
+        if (statistics != null) {
+            statistics.remove(node.data);
+        }
+    }
+    
+    // Keep the optional indexes in step with the chain from first, just linked in at the end
+    // of the list starting at index
+    private void chainAppended(Node first, int index) {
+        if (skipIndex == null && valueIndex == null && statistics == null) {
+            return;
+        }
+        
+        for (Node current = first; current != null; current = current.next) {
+            if (skipIndex != null) {
+                skipIndex.inserted(index++, current);
+            }
+            if (valueIndex != null) {
+                valueIndex.append(current);
+            }
+            if (statistics != null) {
+                statistics.add(current.data);
+            }
+        }
+    }
+    
+    // Keep the optional indexes in step with the chain from first, just detached from index
+    private void chainRemoved(Node first, int index) {
+        if (skipIndex == null && valueIndex == null && statistics == null) {
+            return;
+        }
+        
+        for (Node current = first; current != null; current = current.next) {
+            if (skipIndex != null) {
+                skipIndex.removed(index, current);
+            }
+            if (valueIndex != null) {
+                valueIndex.remove(current);
+            }
+            if (statistics != null) {
+                statistics.remove(current.data);
+            }
+        }
+    }
+    
+    // Forget the cursor once its node may have moved or left the list
+    private void dropCursor() {
+        cursor = null;
+        cursorIndex = -1;
+    }
+    
+    // Rebuild the optional indexes after the node order changed wholesale
+    private void nodesReordered() {
+        dropCursor();
+        if (skipIndex != null) {
+            skipIndex.beginRebuild();
+            for (Node current = head; current != null; current = current.next) {
+                skipIndex.append(current);
+            }
+            skipIndex.endRebuild();
+        }
+        
+        if (valueIndex != null) {
+            valueIndex.clear();
+            for (Node current = head; current != null; current = current.next) {
+                valueIndex.append(current);
+            }
+        }
+    }
+    
+    // Statistics of the n elements starting at first
+    private static LongSummaryStatistics statisticsOf(Node first, int n) {
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        
+        Node current = first;
+        for (int i = 0; i < n; i++) {
+            long value = current.data;
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            current = current.next;
+        }
+        
+        return (n == 0) ? new LongSummaryStatistics() : new LongSummaryStatistics(n, min, max, sum);
+    }
+    
+    // Occurrences of value among the n elements starting at first
+    private static int countOf(Node first, int n, long value) {
+        int count = 0;
+        Node current = first;
+        for (int i = 0; i < n; i++) {
+            if (current.data == value) {
+                count++;
+            }
+            current = current.next;
+        }
+        return count;
+    }
+    
+    // First node of each piece for the parallel aggregates, or null when they should run
+    // sequentially (small list, or no skip-list index to find the pieces with)
+    private Node[] pieceStarts() {
+        if (skipIndex == null || size < 2 * PARALLEL_AGGREGATE_THRESHOLD) {
+            return null;
+        }
+        
+        int pieces = Math.min(4 * ForkJoinPool.getCommonPoolParallelism(), size / PARALLEL_AGGREGATE_THRESHOLD);
+        if (pieces < 2) {
+            return null;
+        }
+        
+        Node[] starts = new Node[pieces];
+        for (int piece = 0; piece < pieces; piece++) {
+            starts[piece] = locate(pieceStart(piece, pieces));
+        }
+        return starts;
+    }
+    
+    private int pieceStart(int piece, int pieces) {
+        return (int) ((long) piece * size / pieces);
+    }
+    
+    private int pieceLength(int piece, int pieces) {
+        return pieceStart(piece + 1, pieces) - pieceStart(piece, pieces);
+    }
+    
+    // Sorting only maintains the next pointers; restore prev and tail in one pass
+    private void restorePrevLinks() {
+        Node prev = null;
+        for (Node node = head; node != null; node = node.next) {
+            node.prev = prev;
+            prev = node;
+        }
+        tail = prev;
+    }
+    
+    // Bottom-up merge sort of the n-node chain starting at first; returns the new first node.
+    // bins[i] holds an already sorted run of 2^i nodes, so runs are merged while still
+    // cache-hot and the only extra space is the fixed array of 32 bins.
+    private Node mergeSort(Node first, int n) {
+        if (n < 2) {
+            return first;
+        }
+        
+        Node[] bins = new Node[32];
+        Node current = first;
+        
+        for (int i = 0; i < n; i++) {
+            Node carry = current;
+            current = current.next;
+            carry.next = null;
+            
+            int bin = 0;
+            while (bins[bin] != null) {
+                carry = merge(bins[bin], carry);
+                bins[bin] = null;
+                bin++;
+            }
+            bins[bin] = carry;
+        }
+        
+        Node result = null;
+        for (Node bin : bins) {
+            if (bin != null) {
+                result = (result == null) ? bin : merge(bin, result);
+            }
+        }
+        return result;
+    }
+    
+    // Cut the chain after n nodes and return the first node of the remainder
+    private static Node split(Node first, int n) {
+        for (int i = 1; i < n; i++) {
+            first = first.next;
+        }
+        
+        Node rest = first.next;
+        first.next = null;
+        return rest;
+    }
+    
+    // Merge two sorted chains; ties keep nodes from left first, so the sort is stable
+    private static Node merge(Node left, Node right) {
+        Node first;
+        if (right.data < left.data) {
+            first = right;
+            right = right.next;
+        } else {
+            first = left;
+            left = left.next;
+        }
+        
+        Node tail = first;
+        while (left != null && right != null) {
+            if (right.data < left.data) {
+                tail.next = right;
+                right = right.next;
+            } else {
+                tail.next = left;
+                left = left.next;
+            }
+            tail = tail.next;
+        }
+        
+        tail.next = (left != null) ? left : right;
+        return first;
+    }
+    
+    // Fork-join task that sorts an n-node chain by sorting both halves concurrently
+    @SuppressWarnings("serial")
+    private class SortTask extends RecursiveTask<Node> {
+        private final Node first;
+        private final int n;
+        
+        SortTask(Node first, int n) {
+            this.first = first;
+            this.n = n;
+        }
+        
+        @Override
+        protected Node compute() {
+            if (n < PARALLEL_SORT_THRESHOLD) {
+                return mergeSort(first, n);
+            }
+            
+            int half = n / 2;
+            Node rest = split(first, half);
+            
+            SortTask right = new SortTask(rest, n - half);
+            right.fork();
+            Node left = new SortTask(first, half).compute();
+            
+            return merge(left, right.join());
+        }
+    }
+    
+    // Running sum plus a sorted count of every value, so min and max survive any deletion
+    private static class RunningStatistics {
+        private long sum;
+        private TreeMap<Long, Integer> counts = new TreeMap<>();
+        
+        void add(long value) {
+            sum += value;
+            counts.merge(value, 1, Integer::sum);
+        }
+        
+        void remove(long value) {
+            sum -= value;
+            counts.computeIfPresent(value, (key, count) -> (count == 1) ? null : count - 1);
+        }
+        
+        void clear() {
+            sum = 0;
+            counts = new TreeMap<>();
+        }
+        
+        long sum() {
+            return sum;
+        }
+        
+        long min() {
+            return counts.firstKey();
+        }
+        
+        long max() {
+            return counts.lastKey();
+        }
+    }
+    
+    private class NodeIterator implements LongListIterator {
+        private Node next;
+        private int nextIndex;
+        private Node lastReturned;
+        private int expectedModCount = modCount;
+        
+        NodeIterator(int index) {
+            this.next = index == size ? null : node(index);
+            this.nextIndex = index;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+        
+        @Override
+        public long nextLong() {
+            checkForComodification();
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.data;
+        }
+        
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+        
+        @Override
+        public long previousLong() {
+            checkForComodification();
+            if (nextIndex == 0) {
+                throw new NoSuchElementException();
+            }
+            
+            next = (next == null) ? tail : next.prev;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.data;
+        }
+        
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+        
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+        
+        // Remove the element returned by the last nextLong() or previousLong() in O(1)
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            
+            if (lastReturned == next) {
+                // After previousLong() the removed element is the one at nextIndex
+                next = lastReturned.next;
+            } else {
+                nextIndex--;
+            }
+            unlink(lastReturned, nextIndex);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+        
+        // Replace the element returned by the last nextLong() or previousLong()
+        @Override
+        public void set(long value) {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            replace(lastReturned, value);
+        }
+        
+        // Insert in front of the element nextLong() would return, in O(1) without the hash index
+        @Override
+        public void add(long value) {
+            checkForComodification();
+            if (next == null) {
+                insertAtTail(value);
+            } else {
+                linkBefore(next, value, nextIndex);
+            }
+            
+            nextIndex++;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+        
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+    
+    // Window onto the elements at offset, ... (length of them) of this list; see subListView.
+    // Indexes passed to the view count from the start of the window.
+    public class SubListView {
+        private final int offset;
+        private int length;
+        private int expectedModCount = modCount;
+        
+        private SubListView(int offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+        
+        // Get the number of elements in the view
+        public int size() {
+            checkForComodification();
+            return length;
+        }
+        
+        // Check if the view is empty
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+        
+        // Get element at specific index of the view
+        public long get(int index) {
+            checkIndex(index);
+            return node(offset + index).data;
+        }
+        
+        // Update element at specific index of the view
+        public void set(int index, long data) {
+            checkIndex(index);
+            replace(node(offset + index), data);
+        }
+        
+        // Search for a value and return its index in the view (-1 if not found)
+        public int search(long value) {
+            checkForComodification();
+            Node current = first();
+            for (int i = 0; i < length; i++) {
+                if (current.data == value) {
+                    return i;
+                }
+                current = current.next;
+            }
+            return -1;
+        }
+        
+        // Check if the view contains a value
+        public boolean contains(long value) {
+            return search(value) != -1;
+        }
+        
+        // Sum of the elements in the view
+        public long sum() {
+            checkForComodification();
+            long sum = 0;
+            Node current = first();
+            for (int i = 0; i < length; i++) {
+                sum += current.data;
+                current = current.next;
+            }
+            return sum;
+        }
+        
+        // Convert the view to an array
+        public long[] toArray() {
+            checkForComodification();
+            long[] array = new long[length];
+            Node current = first();
+            for (int i = 0; i < length; i++) {
+                array[i] = current.data;
+                current = current.next;
+            }
+            return array;
+        }
+        
+        // Iterate over the view's elements in order (fail-fast)
+        public PrimitiveIterator.OfLong iterator() {
+            checkForComodification();
+            return new PrimitiveIterator.OfLong() {
+                private Node next = first();
+                private int remaining = length;
+                
+                @Override
+                public boolean hasNext() {
+                    return remaining > 0;
+                }
+                
+                @Override
+                public long nextLong() {
+                    checkForComodification();
+                    if (remaining == 0) {
+                        throw new NoSuchElementException();
+                    }
+                    
+                    long data = next.data;
+                    next = next.next;
+                    remaining--;
+                    return data;
+                }
+            };
+        }
+        
+        // Remove the view's elements from the list, relinking the ends in O(1); the view
+        // stays usable and is empty afterwards
+        public void clear() {
+            checkForComodification();
+            if (length > 0) {
+                detach(offset, offset + length);
+                length = 0;
+                expectedModCount = modCount;
+            }
+        }
+        
+        @Override
+        public String toString() {
+            return Arrays.toString(toArray());
+        }
+        
+        private Node first() {
+            return length == 0 ? null : node(offset);
+        }
+        
+        private void checkIndex(int index) {
+            checkForComodification();
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+            }
+        }
+        
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+    
+    // Open-addressing hash map from a value to the first node holding it. The nodes that
+    // share a value form a chain through nextSame/prevSame in list order; the first node's
+    // prevSame points at the last one, so both ends of a chain are one step away.
+    private class ValueIndex {
+        private static final int MIN_CAPACITY = 16;
+        
+        private long[] keys;
+        private Node[] firsts;   // null marks a free slot
+        private int mask;
+        private int count;       // distinct values
+        
+        ValueIndex(int expectedValues) {
+            allocate(capacityFor(expectedValues));
+        }
+        
+        // First node, in list order, holding value (null if there is none)
+        Node first(long value) {
+            int slot = slot(value);
+            return firsts[slot];
+        }
+        
+        // Link a node that was just placed in the list into its value's chain. The chain
+        // must stay in list order, so look outwards for the nearest node with the same value.
+        void add(Node node) {
+            int slot = slot(node.data);
+            Node first = firsts[slot];
+            
+            if (first == null) {
+                keys[slot] = node.data;
+                firsts[slot] = node;
+                node.prevSame = node;
+                node.nextSame = null;
+                if (++count * 2 > firsts.length) {
+                    allocate(firsts.length * 2);
+                }
+                return;
+            }
+            
+            Node before = node.prev;
+            Node after = node.next;
+            while (true) {
+                if (before == null) {
+                    linkFirst(slot, first, node);
+                    return;
+                }
+                if (before.data == node.data) {
+                    linkAfter(first, before, node);
+                    return;
+                }
+                if (after == null) {
+                    linkAfter(first, first.prevSame, node);
+                    return;
+                }
+                if (after.data == node.data) {
+                    if (after == first) {
+                        linkFirst(slot, first, node);
+                    } else {
+                        linkAfter(first, after.prevSame, node);
+                    }
+                    return;
+                }
+                before = before.prev;
+                after = after.next;
+            }
+        }
+        
+        // Link node at the end of its value's chain (used when rebuilding in list order)
+        void append(Node node) {
+            int slot = slot(node.data);
+            Node first = firsts[slot];
+            
+            if (first == null) {
+                keys[slot] = node.data;
+                firsts[slot] = node;
+                node.prevSame = node;
+                node.nextSame = null;
+                if (++count * 2 > firsts.length) {
+                    allocate(firsts.length * 2);
+                }
+            } else {
+                linkAfter(first, first.prevSame, node);
+            }
+        }
+        
+        // Unlink node from its value's chain
+        void remove(Node node) {
+            int slot = slot(node.data);
+            Node first = firsts[slot];
+            
+            if (node == first) {
+                Node second = node.nextSame;
+                if (second == null) {
+                    deleteSlot(slot);
+                } else {
+                    second.prevSame = node.prevSame;
+                    firsts[slot] = second;
+                }
+            } else {
+                node.prevSame.nextSame = node.nextSame;
+                if (node.nextSame == null) {
+                    first.prevSame = node.prevSame;
+                } else {
+                    node.nextSame.prevSame = node.prevSame;
+                }
+            }
+            
+            node.nextSame = null;
+            node.prevSame = null;
+        }
+        
+        // Forget every value, shrinking the table back to its minimum size
+        void clear() {
+            if (firsts.length > MIN_CAPACITY) {
+                keys = null;
+                firsts = null;
+                allocate(MIN_CAPACITY);
+            } else {
+                Arrays.fill(firsts, null);
+            }
+            count = 0;
+        }
+        
+        private void linkFirst(int slot, Node first, Node node) {
+            node.nextSame = first;
+            node.prevSame = first.prevSame;
+            first.prevSame = node;
+            firsts[slot] = node;
+        }
+        
+        private void linkAfter(Node first, Node before, Node node) {
+            node.prevSame = before;
+            node.nextSame = before.nextSame;
+            if (before.nextSame == null) {
+                first.prevSame = node;
+            } else {
+                before.nextSame.prevSame = node;
+            }
+            before.nextSame = node;
+        }
+        
+        // Slot holding value, or the free slot where it would go (linear probing)
+        private int slot(long key) {
+            int slot = hash(key) & mask;
+            while (firsts[slot] != null && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+        
+        // Empty a slot and shift later entries of the probe sequence back into the gap,
+        // so lookups never need tombstones
+        private void deleteSlot(int slot) {
+            int next = slot;
+            while (true) {
+                next = (next + 1) & mask;
+                if (firsts[next] == null) {
+                    break;
+                }
+                
+                int home = hash(keys[next]) & mask;
+                if (((next - home) & mask) >= ((next - slot) & mask)) {
+                    keys[slot] = keys[next];
+                    firsts[slot] = firsts[next];
+                    slot = next;
+                }
+            }
+            firsts[slot] = null;
+            count--;
+        }
+        
+        private void allocate(int capacity) {
+            long[] oldKeys = keys;
+            Node[] oldFirsts = firsts;
+            
+            keys = new long[capacity];
+            firsts = new Node[capacity];
+            mask = capacity - 1;
+            
+            if (oldFirsts != null) {
+                for (int i = 0; i < oldFirsts.length; i++) {
+                    if (oldFirsts[i] != null) {
+                        int slot = slot(oldKeys[i]);
+                        keys[slot] = oldKeys[i];
+                        firsts[slot] = oldFirsts[i];
+                    }
+                }
+            }
+        }
+        
+        // Smallest power of two that keeps the table at most half full
+        private int capacityFor(int expectedValues) {
+            int capacity = MIN_CAPACITY;
+            while (capacity < expectedValues * 2 && capacity < (1 << 30)) {
+                capacity <<= 1;
+            }
+            return capacity;
+        }
+        
+        // Fibonacci hashing: the high half of the product depends on every bit of the key
+        private int hash(long key) {
+            return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32);
+        }
+    }
+    
+    // Main method for testing
+    public static void main(String[] args) throws IOException {
+        LongLinkedList list = new LongLinkedList();
+        
+        // Test insertions
+        list.insertAtHead(10);
+        list.insertAtHead(5);
+        list.insertAtTail(20);
+        list.insertAtTail(30);
+        list.insertAtIndex(2, 15);
+        list.insertAtTail(5); // Duplicate for testing
+        
+        System.out.println("After insertions: " + list);
+        System.out.println("Size: " + list.size());
+        
+        // Test mathematical operations
+        System.out.println("Sum: " + list.sum());
+        System.out.println("Average: " + list.average());
+        System.out.println("Min: " + list.findMin());
+        System.out.println("Max: " + list.findMax());
+        System.out.println("Summary: " + list.summaryStatistics());
+        
+        // Test search and count
+        System.out.println("Search 15: " + list.search(15));
+        System.out.println("Contains 25: " + list.contains(25));
+        System.out.println("Count of 5: " + list.countOccurrences(5));
+        
+        // Test values outside the int range
+        list.insertAtTail(Long.MAX_VALUE);
+        System.out.println("Search Long.MAX_VALUE: " + list.search(Long.MAX_VALUE));
+        list.deleteFromTail();
+        
+        // Test get/set
+        System.out.println("Element at index 2: " + list.get(2));
+        list.set(2, 25);
+        System.out.println("After setting index 2 to 25: " + list);
+        
+        // Test sorting
+        list.sort();
+        System.out.println("After sorting: " + list);
+        
+        // Test parallel sorting on a larger list
+        LongLinkedList large = new LongLinkedList();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            large.insertAtHead(random.nextInt(1_000_000));
+        }
+        large.parallelSort();
+        long[] sorted = large.toArray();
+        boolean ordered = true;
+        for (int i = 1; i < sorted.length; i++) {
+            ordered &= sorted[i - 1] <= sorted[i];
+        }
+        System.out.println("Parallel sort of " + large.size() + " elements ordered: " + ordered);
+        large.enableSkipListIndex();
+        System.out.println("Parallel summary: " + large.parallelSummaryStatistics());
+        large.disableSkipListIndex();
+        
+        // Test binary snapshots: write the sorted list out and read it back
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        large.writeTo(Channels.newChannel(snapshot));
+        LongLinkedList restored = new LongLinkedList();
+        restored.readFrom(Channels.newChannel(new ByteArrayInputStream(snapshot.toByteArray())));
+        System.out.println("Snapshot of " + large.size() + " elements: " + snapshot.size() + " bytes, restored equal: "
+                + Arrays.equals(large.toArray(), restored.toArray()));
+        
+        // Test indexed positional access
+        list.enableSkipListIndex();
+        list.insertAtIndex(3, 12);
+        System.out.println("With skip-list index, element at index 3: " + list.get(3));
+        System.out.println("Deleted at index 3: " + list.deleteAtIndex(3));
+        list.disableSkipListIndex();
+        
+        // Test running statistics
+        list.enableRunningStatistics();
+        list.insertAtHead(-7);
+        System.out.println("With running statistics, min: " + list.findMin() + ", sum: " + list.sum());
+        list.deleteByValue(-7);
+        System.out.println("After deleting -7, min: " + list.findMin() + ", average: " + list.average());
+        list.disableRunningStatistics();
+        
+        // Test hash-indexed membership
+        list.enableHashIndex();
+        list.insertAtTail(15);
+        System.out.println("With hash index, contains 15: " + list.contains(15)
+                + ", count of 15: " + list.countOccurrences(15));
+        System.out.println("Delete 15: " + list.deleteByValue(15) + ", search 15: " + list.search(15));
+        list.deleteFromTail();
+        list.disableHashIndex();
+        
+        // Test node pooling: after the first round, inserts reuse the deleted nodes
+        list.enableNodePool(64);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 10; i++) {
+                list.insertAtHead(i);
+            }
+            for (int i = 0; i < 10; i++) {
+                list.deleteFromHead();
+            }
+        }
+        System.out.println("After pooled inserts and deletes: " + list);
+        list.disableNodePool();
+        
+        // Test the list iterator: replace, insert and remove while walking
+        LongListIterator iterator = list.listIterator();
+        while (iterator.hasNext()) {
+            long value = iterator.nextLong();
+            if (value == 5) {
+                iterator.set(6);
+            } else if (value == 20) {
+                iterator.add(21);
+            } else if (value == 25) {
+                iterator.remove();
+            }
+        }
+        System.out.println("After editing through the list iterator: " + list);
+        System.out.print("Backwards: ");
+        while (iterator.hasPrevious()) {
+            System.out.print(iterator.previousLong() + " ");
+        }
+        System.out.println();
+        
+        // Test remove duplicates
+        list.removeDuplicates();
+        System.out.println("After removing duplicates: " + list);
+        
+        // Test distinct: repeats anywhere in the list, not just adjacent ones
+        list.insertAtTail(10);
+        list.insertAtHead(30);
+        System.out.println("Before distinct: " + list);
+        list.distinct();
+        System.out.println("After distinct: " + list);
+        LongLinkedList repeated = new LongLinkedList();
+        for (int i = 0; i < 200_000; i++) {
+            repeated.insertAtTail(i % 150_000);
+        }
+        repeated.distinctBounded(64 * 1024);
+        System.out.println("Bounded distinct with a 64 KB filter: " + repeated.size() + " elements left");
+        
+        // Test splitting and joining lists without copying nodes
+        LongLinkedList back = list.splitAt(list.size() / 2);
+        System.out.println("Split into " + list + " and " + back);
+        LongLinkedList.SubListView window = back.subListView(0, 1);
+        System.out.println("Window " + window + " of " + back + " sums to " + window.sum());
+        window.clear();
+        list.appendAll(back);
+        System.out.println("Joined again without the window: " + list + ", other list: " + back);
+        
+        // Test deletions
+        System.out.println("Deleted from head: " + list.deleteFromHead());
+        System.out.println("Deleted from tail: " + list.deleteFromTail());
+        System.out.println("After deletions: " + list);
+        
+        // Test reverse
+        list.reverse();
+        System.out.println("After reverse: " + list);
+        
+        // Test array conversion
+        long[] array = list.toArray();
+        System.out.print("As array: [");
+        for (int i = 0; i < array.length; i++) {
+            System.out.print(array[i]);
+            if (i < array.length - 1) System.out.print(", ");
+        }
+        System.out.println("]");
+        
+        // Display final state
+        list.display();
+        
+        // Show the recorded metrics (run with -Dlinkedlist.metrics=true to record them)
+        if (ListMetrics.ENABLED) {
+            for (OperationStats stats : metrics().snapshot()) {
+                if (stats.getCount() > 0) {
+                    System.out.println(stats);
+                }
+            }
+        }
+    }
+}
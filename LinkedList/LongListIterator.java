@@ -0,0 +1,33 @@
+// Generated from LinkedList/templates/PrimitiveListIterator.java.template by GeneratePrimitiveLists.java;
+// edit the template and regenerate instead of changing this file.
+package LinkedList;
+
+import java.util.PrimitiveIterator;
+
+// Bidirectional iterator over a LongLinkedList that hands out unboxed longs: the
+// primitive counterpart of java.util.ListIterator<Long>. The cursor sits between two
+// elements; next and previous move it, and remove/set act on the element returned last.
+public interface LongListIterator extends PrimitiveIterator.OfLong {
+    
+    // Check if there is an element before the cursor
+    boolean hasPrevious();
+    
+    // Move the cursor back and return the element it passed
+    long previousLong();
+    
+    // Index of the element nextLong() would return (size at the end)
+    int nextIndex();
+    
+    // Index of the element previousLong() would return (-1 at the start)
+    int previousIndex();
+    
+    // Remove the element returned by the last nextLong() or previousLong()
+    @Override
+    void remove();
+    
+    // Replace the element returned by the last nextLong() or previousLong()
+    void set(long value);
+    
+    // Insert value in front of the cursor; nextLong() is unaffected, previousLong() returns it
+    void add(long value);
+}
@@ -0,0 +1,978 @@
+package LinkedList;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// IntigerLinkedList whose nodes live in a memory-mapped file, so the list survives a
+// restart. Nodes are 8-byte slots (data, next) like in OffHeapIntigerLinkedList; a
+// small header at the start of the file holds head, tail, size and the free list.
+// Reopening a file maps it and reads the header: no element is read or copied.
+//
+// File layout:
+//   [header: 4 KB][segment 0: 65536 slots][segment 1: 65536 slots] ...
+//
+// Every change writes straight through to the mapping, ordered so that the nodes
+// reachable from head always form a valid list. The header carries a "clean" flag
+// that close() sets; if a file is opened without it (the process died), the list is
+// repaired by one walk from head that recomputes tail, size and the free list.
+public class MappedIntigerLinkedList implements AutoCloseable {
+    
+    // Each segment holds 2^SEGMENT_SHIFT node slots (512 KB per segment)
+    private static final int SEGMENT_SHIFT = 16;
+    private static final int SLOTS_PER_SEGMENT = 1 << SEGMENT_SHIFT;
+    private static final int SLOT_MASK = SLOTS_PER_SEGMENT - 1;
+    
+    // Slot layout: [data: int][next: int]
+    private static final int SLOT_BYTES = 8;
+    private static final int NEXT_OFFSET = 4;
+    private static final int SEGMENT_BYTES = SLOTS_PER_SEGMENT * SLOT_BYTES;
+    
+    // Header layout; segments start one page in, so every segment mapping is page aligned
+    private static final int HEADER_BYTES = 4096;
+    private static final int MAGIC = 0x4D4C4C31; // "MLL1"
+    private static final int MAGIC_OFFSET = 0;
+    private static final int STATE_OFFSET = 4;
+    private static final int HEAD_OFFSET = 8;
+    private static final int TAIL_OFFSET = 12;
+    private static final int SIZE_OFFSET = 16;
+    private static final int FREE_HEAD_OFFSET = 20;
+    private static final int HIGH_WATER_OFFSET = 24;
+    private static final int SEGMENT_COUNT_OFFSET = 28;
+    
+    // Values of the state field
+    private static final int STATE_OPEN = 1;
+    private static final int STATE_CLEAN = 2;
+    
+    // Slot index meaning "no node"
+    private static final int NIL = -1;
+    
+    // Files opened by some instance in this JVM. A file lock only keeps other processes
+    // out, and closing any channel to a file drops this process's lock on it, so a second
+    // instance is turned away here before it opens a channel of its own.
+    private static final Set<Path> OPEN_FILES = ConcurrentHashMap.newKeySet();
+    
+    private final Path key;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private MappedByteBuffer[] segments;
+    private int segmentCount;
+    private int highWater;   // slots below this index have been handed out at least once
+    private int freeHead;    // free slots are chained through their next field
+    
+    private int head;
+    private int tail;
+    private int size;
+    private boolean recovered;
+    private boolean closed;
+    
+    // Open the list stored in file, creating an empty one if the file does not exist. The
+    // file stays locked until close(), so another instance (in this or another process)
+    // cannot open it and mistake the live list for a crashed one.
+    public MappedIntigerLinkedList(Path file) throws IOException {
+        this.key = claim(file);
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        } catch (IOException | RuntimeException e) {
+            OPEN_FILES.remove(key);
+            throw e;
+        }
+        
+        try {
+            lock(file);
+            
+            boolean created = channel.size() == 0;
+            if (!created && channel.size() < HEADER_BYTES) {
+                throw new IOException("Not a mapped list file (too short): " + file);
+            }
+            
+            this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            this.segments = new MappedByteBuffer[4];
+            
+            if (created) {
+                header.putInt(MAGIC_OFFSET, MAGIC);
+                setSegmentCount(0);
+                setHighWater(0);
+                setFreeHead(NIL);
+                setHead(NIL);
+                setTail(NIL);
+                setSize(0);
+            } else {
+                load(file);
+            }
+            
+            // Marked open until close(); finding this on the next open means a crash
+            header.putInt(STATE_OFFSET, STATE_OPEN);
+            header.force();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            OPEN_FILES.remove(key);
+            throw e;
+        }
+        this.closed = false;
+    }
+    
+    // Insert at the beginning of the list
+    public void insertAtHead(int data) {
+        ensureOpen();
+        int slot = allocate(data);
+        setNext(slot, head);
+        setHead(slot);
+        
+        if (tail == NIL) {
+            setTail(slot);
+        }
+        setSize(size + 1);
+    }
+    
+    // Insert at the end of the list
+    public void insertAtTail(int data) {
+        ensureOpen();
+        int slot = allocate(data);
+        
+        if (head == NIL) {
+            setHead(slot);
+        } else {
+            setNext(tail, slot);
+        }
+        setTail(slot);
+        setSize(size + 1);
+    }
+    
+    // Insert at specific index
+    public void insertAtIndex(int index, int data) {
+        ensureOpen();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        if (index == 0) {
+            insertAtHead(data);
+            return;
+        }
+        
+        if (index == size) {
+            insertAtTail(data);
+            return;
+        }
+        
+        // The new slot points at its successor before anything points at it
+        int current = slotAt(index - 1);
+        int slot = allocate(data);
+        setNext(slot, next(current));
+        setNext(current, slot);
+        setSize(size + 1);
+    }
+    
+    // Delete from the beginning
+    public int deleteFromHead() {
+        ensureOpen();
+        if (head == NIL) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        int slot = head;
+        int data = data(slot);
+        setHead(next(slot));
+        
+        if (head == NIL) {
+            setTail(NIL);
+        }
+        setSize(size - 1);
+        release(slot);
+        return data;
+    }
+    
+    // Delete from the end
+    public int deleteFromTail() {
+        ensureOpen();
+        if (head == NIL) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        if (head == tail) {
+            return deleteFromHead();
+        }
+        
+        int current = slotAt(size - 2);
+        int slot = tail;
+        int data = data(slot);
+        
+        setNext(current, NIL);
+        setTail(current);
+        setSize(size - 1);
+        release(slot);
+        return data;
+    }
+    
+    // Delete from specific index
+    public int deleteAtIndex(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        if (index == 0) {
+            return deleteFromHead();
+        }
+        
+        int current = slotAt(index - 1);
+        int slot = next(current);
+        int data = data(slot);
+        unlinkAfter(current, slot);
+        return data;
+    }
+    
+    // Delete by value (first occurrence)
+    public boolean deleteByValue(int value) {
+        ensureOpen();
+        if (head == NIL) {
+            return false;
+        }
+        
+        if (data(head) == value) {
+            deleteFromHead();
+            return true;
+        }
+        
+        int current = head;
+        int following = next(current);
+        while (following != NIL && data(following) != value) {
+            current = following;
+            following = next(current);
+        }
+        
+        if (following != NIL) {
+            unlinkAfter(current, following);
+            return true;
+        }
+        
+        return false;
+    }
+    
+    // Search for a value and return its index
+    public int search(int value) {
+        ensureOpen();
+        int current = head;
+        int index = 0;
+        
+        while (current != NIL) {
+            if (data(current) == value) {
+                return index;
+            }
+            current = next(current);
+            index++;
+        }
+        
+        return -1; // Not found
+    }
+    
+    // Get element at specific index
+    public int get(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        return data(slotAt(index));
+    }
+    
+    // Update element at specific index
+    public void set(int index, int data) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        setData(slotAt(index), data);
+    }
+    
+    // Check if list contains a value
+    public boolean contains(int value) {
+        ensureOpen();
+        return search(value) != -1;
+    }
+    
+    // Count occurrences of a value
+    public int countOccurrences(int value) {
+        ensureOpen();
+        int count = 0;
+        
+        for (int current = head; current != NIL; current = next(current)) {
+            if (data(current) == value) {
+                count++;
+            }
+        }
+        
+        return count;
+    }
+    
+    // Get the size of the list
+    public int size() {
+        ensureOpen();
+        return size;
+    }
+    
+    // Check if list is empty
+    public boolean isEmpty() {
+        ensureOpen();
+        return size == 0;
+    }
+    
+    // Clear the entire list; the file keeps its size and its slots are reused
+    public void clear() {
+        ensureOpen();
+        setHead(NIL);
+        setTail(NIL);
+        setSize(0);
+        setFreeHead(NIL);
+        setHighWater(0);
+    }
+    
+    // Reverse the list into freshly allocated slots, then switch head over to the copy and
+    // free the old chain (see replaceChain). Needs room for a second copy while it runs.
+    public void reverse() {
+        ensureOpen();
+        int newHead = NIL;
+        int newTail = NIL;
+        
+        for (int current = head; current != NIL; current = next(current)) {
+            int slot = allocate(data(current));
+            setNext(slot, newHead);
+            newHead = slot;
+            
+            if (newTail == NIL) {
+                newTail = slot;
+            }
+        }
+        
+        replaceChain(newHead, newTail);
+    }
+    
+    // Get the first element
+    public int getFirst() {
+        ensureOpen();
+        if (head == NIL) {
+            throw new RuntimeException("List is empty");
+        }
+        return data(head);
+    }
+    
+    // Get the last element
+    public int getLast() {
+        ensureOpen();
+        if (tail == NIL) {
+            throw new RuntimeException("List is empty");
+        }
+        return data(tail);
+    }
+    
+    // Find minimum value
+    public int findMin() {
+        ensureOpen();
+        if (head == NIL) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        int min = data(head);
+        for (int current = next(head); current != NIL; current = next(current)) {
+            min = Math.min(min, data(current));
+        }
+        
+        return min;
+    }
+    
+    // Find maximum value
+    public int findMax() {
+        ensureOpen();
+        if (head == NIL) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        int max = data(head);
+        for (int current = next(head); current != NIL; current = next(current)) {
+            max = Math.max(max, data(current));
+        }
+        
+        return max;
+    }
+    
+    // Calculate sum of all elements
+    public int sum() {
+        ensureOpen();
+        int sum = 0;
+        
+        for (int current = head; current != NIL; current = next(current)) {
+            sum += data(current);
+        }
+        
+        return sum;
+    }
+    
+    // Calculate average of all elements
+    public double average() {
+        ensureOpen();
+        if (size == 0) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        long sum = 0;
+        for (int current = head; current != NIL; current = next(current)) {
+            sum += data(current);
+        }
+        return (double) sum / size;
+    }
+    
+    // Convert to array
+    public int[] toArray() {
+        ensureOpen();
+        int[] array = new int[size];
+        int index = 0;
+        
+        for (int current = head; current != NIL; current = next(current)) {
+            array[index++] = data(current);
+        }
+        
+        return array;
+    }
+    
+    // Sort the list: copy it into freshly allocated slots, merge sort the copy by relinking
+    // them, then switch head over to it and free the old chain (see replaceChain). Needs
+    // room for a second copy while it runs.
+    public void sort() {
+        ensureOpen();
+        if (size < 2) {
+            return;
+        }
+        
+        int first = NIL;
+        int last = NIL;
+        for (int current = head; current != NIL; current = next(current)) {
+            int slot = allocate(data(current));
+            if (last == NIL) {
+                first = slot;
+            } else {
+                setNext(last, slot);
+            }
+            last = slot;
+        }
+        
+        first = mergeSort(first, size);
+        last = first;
+        while (next(last) != NIL) {
+            last = next(last);
+        }
+        
+        replaceChain(first, last);
+    }
+    
+    // Remove duplicates
+    public void removeDuplicates() {
+        ensureOpen();
+        if (head == NIL) {
+            return;
+        }
+        
+        int current = head;
+        int following = next(current);
+        while (following != NIL) {
+            if (data(current) == data(following)) {
+                unlinkAfter(current, following);
+            } else {
+                current = following;
+            }
+            following = next(current);
+        }
+    }
+    
+    // Number of node slots the file currently has room for
+    public long capacity() {
+        ensureOpen();
+        return (long) segmentCount * SLOTS_PER_SEGMENT;
+    }
+    
+    // Grow the file up front so it has room for at least minCapacity nodes
+    public void ensureCapacity(int minCapacity) {
+        ensureOpen();
+        while (capacity() < minCapacity) {
+            addSegment();
+        }
+    }
+    
+    // True if the last session did not close the file and this open had to repair it
+    public boolean wasRecovered() {
+        ensureOpen();
+        return recovered;
+    }
+    
+    // Write every change so far to the storage device. Changes already survive a crash of
+    // this process without it (they are in the OS page cache); flush() also covers a crash
+    // of the whole machine.
+    public void flush() {
+        ensureOpen();
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i].force();
+        }
+        header.force();
+    }
+    
+    // Flush, mark the file cleanly closed, unmap it and release the lock; the list cannot be
+    // used afterwards
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        
+        flush();
+        header.putInt(STATE_OFFSET, STATE_CLEAN);
+        header.force();
+        unmap();
+    }
+    
+    // Display the list
+    public void display() {
+        ensureOpen();
+        if (head == NIL) {
+            System.out.println("List is empty");
+            return;
+        }
+        
+        System.out.print("MappedIntLinkedList: ");
+        for (int current = head; current != NIL; current = next(current)) {
+            System.out.print(data(current));
+            if (next(current) != NIL) {
+                System.out.print(" -> ");
+            }
+        }
+        System.out.println(" -> null");
+    }
+    
+    // Override toString method
+    @Override
+    public String toString() {
+        if (closed) {
+            return "[closed]";
+        }
+        
+        if (head == NIL) {
+            return "[]";
+        }
+        
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        
+        for (int current = head; current != NIL; current = next(current)) {
+            sb.append(data(current));
+            if (next(current) != NIL) {
+                sb.append(", ");
+            }
+        }
+        
+        sb.append("]");
+        return sb.toString();
+    }
+    
+    // Register file as open in this JVM, failing if another instance already has it
+    private static Path claim(Path file) throws IOException {
+        Path key = Files.exists(file) ? file.toRealPath() : file.toAbsolutePath().normalize();
+        if (!OPEN_FILES.add(key)) {
+            throw new IOException("Mapped list file is already open: " + file);
+        }
+        return key;
+    }
+    
+    // Take an exclusive lock on the whole file, failing if another process holds it
+    private void lock(Path file) throws IOException {
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        
+        if (lock == null) {
+            throw new IOException("Mapped list file is already open: " + file);
+        }
+    }
+    
+    // Unmap the header and segments right away (not when the GC finds the buffers) and
+    // close the channel, which drops the lock
+    private void unmap() throws IOException {
+        closed = true;
+        for (int i = 0; i < segmentCount; i++) {
+            DirectBuffers.free(segments[i]);
+        }
+        DirectBuffers.free(header);
+        
+        Arrays.fill(segments, null);
+        segments = null;
+        segmentCount = 0;
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        try {
+            channel.close();
+        } finally {
+            OPEN_FILES.remove(key);
+        }
+    }
+    
+    // Read the header of an existing file and map its segments; repair it if it was not
+    // closed cleanly
+    private void load(Path file) throws IOException {
+        if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+            throw new IOException("Not a mapped list file (bad magic): " + file);
+        }
+        
+        int storedSegments = header.getInt(SEGMENT_COUNT_OFFSET);
+        long available = (channel.size() - HEADER_BYTES) / SEGMENT_BYTES;
+        if (storedSegments < 0 || storedSegments > available) {
+            throw new IOException("Mapped list file is truncated: " + file);
+        }
+        
+        for (int i = 0; i < storedSegments; i++) {
+            mapSegment(i);
+        }
+        segmentCount = storedSegments;
+        
+        highWater = header.getInt(HIGH_WATER_OFFSET);
+        freeHead = header.getInt(FREE_HEAD_OFFSET);
+        head = header.getInt(HEAD_OFFSET);
+        tail = header.getInt(TAIL_OFFSET);
+        size = header.getInt(SIZE_OFFSET);
+        
+        if (header.getInt(STATE_OFFSET) != STATE_CLEAN) {
+            recover();
+        }
+    }
+    
+    // Rebuild tail, size and the free list from the chain starting at head. Operations
+    // only ever make a node reachable once it is fully written, so everything reachable
+    // is a real element; a broken pointer ends the list where it points out of range.
+    private void recover() {
+        recovered = true;
+        if (highWater < 0 || highWater > capacity()) {
+            setHighWater((int) Math.min(capacity(), Integer.MAX_VALUE));
+        }
+        
+        BitSet reachable = new BitSet(highWater);
+        int count = 0;
+        int last = NIL;
+        int current = validSlot(head) ? head : NIL;
+        if (current != head) {
+            setHead(NIL);
+        }
+        
+        while (current != NIL) {
+            reachable.set(current);
+            count++;
+            last = current;
+            
+            int following = next(current);
+            if (following != NIL && (!validSlot(following) || reachable.get(following))) {
+                // Out of range or a cycle: cut the list here
+                setNext(current, NIL);
+                following = NIL;
+            }
+            current = following;
+        }
+        
+        setTail(last);
+        setSize(count);
+        
+        // Every handed-out slot that is not part of the list is free
+        setFreeHead(NIL);
+        for (int slot = highWater - 1; slot >= 0; slot--) {
+            if (!reachable.get(slot)) {
+                release(slot);
+            }
+        }
+        header.force();
+    }
+    
+    private boolean validSlot(int slot) {
+        return slot >= 0 && slot < highWater;
+    }
+    
+    // Walk to the slot at index
+    private int slotAt(int index) {
+        ensureOpen();
+        if (index == size - 1) {
+            return tail;
+        }
+        
+        int current = head;
+        for (int i = 0; i < index; i++) {
+            current = next(current);
+        }
+        return current;
+    }
+    
+    // Make the chain newHead..newTail the list in place of the current one. The new chain
+    // holds the same number of elements in slots nothing else points at. Writing head is
+    // the single step that switches lists: a crash before it leaves the old list (recover()
+    // frees the unreachable copy), a crash after it leaves the new one (recover() rebuilds
+    // tail and the free list). Only then is the old chain freed.
+    private void replaceChain(int newHead, int newTail) {
+        int old = head;
+        setHead(newHead);
+        setTail(newTail);
+        
+        while (old != NIL) {
+            int following = next(old);
+            release(old);
+            old = following;
+        }
+    }
+    
+    // Sort the n-slot chain starting at first: bins[i] holds a sorted run of 2^i slots,
+    // and each slot taken off the chain is carried into the bins like a binary counter
+    private int mergeSort(int first, int n) {
+        int[] bins = new int[32];
+        Arrays.fill(bins, NIL);
+        int current = first;
+        
+        for (int i = 0; i < n; i++) {
+            int carry = current;
+            current = next(current);
+            setNext(carry, NIL);
+            
+            int bin = 0;
+            while (bins[bin] != NIL) {
+                carry = merge(bins[bin], carry);
+                bins[bin] = NIL;
+                bin++;
+            }
+            bins[bin] = carry;
+        }
+        
+        int result = NIL;
+        for (int bin : bins) {
+            if (bin != NIL) {
+                result = (result == NIL) ? bin : merge(bin, result);
+            }
+        }
+        return result;
+    }
+    
+    // Merge two sorted chains; ties keep slots from left first, so the sort is stable
+    private int merge(int left, int right) {
+        int first;
+        if (data(right) < data(left)) {
+            first = right;
+            right = next(right);
+        } else {
+            first = left;
+            left = next(left);
+        }
+        
+        int last = first;
+        while (left != NIL && right != NIL) {
+            if (data(right) < data(left)) {
+                setNext(last, right);
+                right = next(right);
+            } else {
+                setNext(last, left);
+                left = next(left);
+            }
+            last = next(last);
+        }
+        
+        setNext(last, (left != NIL) ? left : right);
+        return first;
+    }
+    
+    // Unlink the node after current and return its slot to the free list
+    private void unlinkAfter(int current, int slot) {
+        int following = next(slot);
+        setNext(current, following);
+        
+        if (following == NIL) {
+            setTail(current);
+        }
+        setSize(size - 1);
+        release(slot);
+    }
+    
+    // Take a slot from the free list, or from fresh file space
+    private int allocate(int data) {
+        ensureOpen();
+        int slot;
+        
+        if (freeHead != NIL) {
+            slot = freeHead;
+            setFreeHead(next(slot));
+        } else {
+            if (highWater == Integer.MAX_VALUE) {
+                throw new IllegalStateException("Mapped list is full");
+            }
+            if (highWater >= capacity()) {
+                addSegment();
+            }
+            slot = highWater;
+            setHighWater(highWater + 1);
+        }
+        
+        setData(slot, data);
+        setNext(slot, NIL);
+        return slot;
+    }
+    
+    // Put a slot back on the free list (only after nothing in the list points at it)
+    private void release(int slot) {
+        setNext(slot, freeHead);
+        setFreeHead(slot);
+    }
+    
+    // Grow the file by one segment; existing segments never move, so growth copies nothing
+    private void addSegment() {
+        try {
+            mapSegment(segmentCount);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not grow mapped list file", e);
+        }
+        setSegmentCount(segmentCount + 1);
+    }
+    
+    private void mapSegment(int index) throws IOException {
+        if (index == segments.length) {
+            segments = Arrays.copyOf(segments, index * 2);
+        }
+        
+        long position = HEADER_BYTES + (long) index * SEGMENT_BYTES;
+        segments[index] = channel.map(FileChannel.MapMode.READ_WRITE, position, SEGMENT_BYTES);
+        segments[index].order(ByteOrder.LITTLE_ENDIAN);
+    }
+    
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+    
+    // Header fields are written through on every change
+    private void setHead(int slot) {
+        head = slot;
+        header.putInt(HEAD_OFFSET, slot);
+    }
+    
+    private void setTail(int slot) {
+        tail = slot;
+        header.putInt(TAIL_OFFSET, slot);
+    }
+    
+    private void setSize(int newSize) {
+        size = newSize;
+        header.putInt(SIZE_OFFSET, newSize);
+    }
+    
+    private void setFreeHead(int slot) {
+        freeHead = slot;
+        header.putInt(FREE_HEAD_OFFSET, slot);
+    }
+    
+    private void setHighWater(int slots) {
+        highWater = slots;
+        header.putInt(HIGH_WATER_OFFSET, slots);
+    }
+    
+    private void setSegmentCount(int count) {
+        segmentCount = count;
+        header.putInt(SEGMENT_COUNT_OFFSET, count);
+    }
+    
+    private int data(int slot) {
+        return segments[slot >>> SEGMENT_SHIFT].getInt((slot & SLOT_MASK) * SLOT_BYTES);
+    }
+    
+    private int next(int slot) {
+        return segments[slot >>> SEGMENT_SHIFT].getInt((slot & SLOT_MASK) * SLOT_BYTES + NEXT_OFFSET);
+    }
+    
+    private void setData(int slot, int data) {
+        segments[slot >>> SEGMENT_SHIFT].putInt((slot & SLOT_MASK) * SLOT_BYTES, data);
+    }
+    
+    private void setNext(int slot, int next) {
+        segments[slot >>> SEGMENT_SHIFT].putInt((slot & SLOT_MASK) * SLOT_BYTES + NEXT_OFFSET, next);
+    }
+    
+    // Main method for testing: build a list in a file, reopen it, then simulate a crash
+    public static void main(String[] args) throws IOException {
+        Path file = Files.createTempFile("mapped-list", ".bin");
+        
+        try {
+            try (MappedIntigerLinkedList list = new MappedIntigerLinkedList(file)) {
+                // Test insertions
+                list.insertAtHead(10);
+                list.insertAtHead(5);
+                list.insertAtTail(20);
+                list.insertAtTail(30);
+                list.insertAtIndex(2, 15);
+                list.insertAtTail(5); // Duplicate for testing
+                System.out.println("After insertions: " + list);
+                
+                // Test deletions, sorting and reverse
+                System.out.println("Deleted from head: " + list.deleteFromHead());
+                System.out.println("Delete value 20: " + list.deleteByValue(20));
+                list.sort();
+                System.out.println("After sorting: " + list);
+                list.reverse();
+                System.out.println("After reverse: " + list);
+            }
+            
+            // Reopening maps the file and reads the header; nothing is replayed
+            try (MappedIntigerLinkedList list = new MappedIntigerLinkedList(file)) {
+                System.out.println("Reopened: " + list + ", size " + list.size()
+                        + ", recovered: " + list.wasRecovered());
+                
+                for (int i = 0; i < 100_000; i++) {
+                    list.insertAtTail(i);
+                }
+                System.out.println("Grew to " + list.size() + " elements, capacity " + list.capacity());
+            }
+            
+            // Simulate a crash: change the list, then let go of the file the way a dying
+            // process would, without marking it clean
+            MappedIntigerLinkedList crashed = new MappedIntigerLinkedList(file);
+            crashed.deleteFromHead();
+            crashed.insertAtHead(-1);
+            long expectedSum = 0;
+            for (int value : crashed.toArray()) {
+                expectedSum += value;
+            }
+            
+            try {
+                new MappedIntigerLinkedList(file);
+            } catch (IOException e) {
+                System.out.println("Second open while in use: refused");
+            }
+            crashed.unmap();
+            
+            try (MappedIntigerLinkedList list = new MappedIntigerLinkedList(file)) {
+                long sum = 0;
+                for (int value : list.toArray()) {
+                    sum += value;
+                }
+                System.out.println("After crash: recovered " + list.wasRecovered() + ", size " + list.size()
+                        + ", first " + list.getFirst() + ", last " + list.getLast()
+                        + ", sums match: " + (sum == expectedSum));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,685 @@
+package LinkedList;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+// IntigerLinkedList whose nodes live outside the Java heap. Each node is an
+// 8-byte slot (data, next) inside direct ByteBuffer segments, so the garbage
+// collector only ever sees the handful of segment objects, never the nodes.
+public class OffHeapIntigerLinkedList implements AutoCloseable {
+    
+    // Each segment holds 2^SEGMENT_SHIFT node slots (512 KB per segment)
+    private static final int SEGMENT_SHIFT = 16;
+    private static final int SLOTS_PER_SEGMENT = 1 << SEGMENT_SHIFT;
+    private static final int SLOT_MASK = SLOTS_PER_SEGMENT - 1;
+    
+    // Slot layout: [data: int][next: int]
+    private static final int SLOT_BYTES = 8;
+    private static final int NEXT_OFFSET = 4;
+    
+    // Slot index meaning "no node"
+    private static final int NIL = -1;
+    
+    private ByteBuffer[] segments;
+    private int segmentCount;
+    private int highWater;   // slots below this index have been handed out at least once
+    private int freeHead;    // free slots are chained through their next field
+    
+    private int head;
+    private int tail;
+    private int size;
+    private boolean closed;
+    
+    // Constructor
+    public OffHeapIntigerLinkedList() {
+        this.segments = new ByteBuffer[4];
+        this.segmentCount = 0;
+        this.highWater = 0;
+        this.freeHead = NIL;
+        this.head = NIL;
+        this.tail = NIL;
+        this.size = 0;
+        this.closed = false;
+    }
+    
+    // Insert at the beginning of the list
+    public void insertAtHead(int data) {
+        ensureOpen();
+        int slot = allocate(data);
+        setNext(slot, head);
+        head = slot;
+        
+        if (tail == NIL) {
+            tail = slot;
+        }
+        size++;
+    }
+    
+    // Insert at the end of the list
+    public void insertAtTail(int data) {
+        ensureOpen();
+        int slot = allocate(data);
+        
+        if (head == NIL) {
+            head = slot;
+        } else {
+            setNext(tail, slot);
+        }
+        tail = slot;
+        size++;
+    }
+    
+    // Insert at specific index
+    public void insertAtIndex(int index, int data) {
+        ensureOpen();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        if (index == 0) {
+            insertAtHead(data);
+            return;
+        }
+        
+        if (index == size) {
+            insertAtTail(data);
+            return;
+        }
+        
+        int current = slotAt(index - 1);
+        int slot = allocate(data);
+        setNext(slot, next(current));
+        setNext(current, slot);
+        size++;
+    }
+    
+    // Delete from the beginning
+    public int deleteFromHead() {
+        ensureOpen();
+        if (head == NIL) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        int slot = head;
+        int data = data(slot);
+        head = next(slot);
+        
+        if (head == NIL) {
+            tail = NIL;
+        }
+        release(slot);
+        size--;
+        return data;
+    }
+    
+    // Delete from the end
+    public int deleteFromTail() {
+        ensureOpen();
+        if (head == NIL) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        if (head == tail) {
+            return deleteFromHead();
+        }
+        
+        int current = slotAt(size - 2);
+        int slot = tail;
+        int data = data(slot);
+        
+        setNext(current, NIL);
+        tail = current;
+        release(slot);
+        size--;
+        return data;
+    }
+    
+    // Delete from specific index
+    public int deleteAtIndex(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        if (index == 0) {
+            return deleteFromHead();
+        }
+        
+        int current = slotAt(index - 1);
+        int slot = next(current);
+        int data = data(slot);
+        unlinkAfter(current, slot);
+        return data;
+    }
+    
+    // Delete by value (first occurrence)
+    public boolean deleteByValue(int value) {
+        ensureOpen();
+        if (head == NIL) {
+            return false;
+        }
+        
+        if (data(head) == value) {
+            deleteFromHead();
+            return true;
+        }
+        
+        int current = head;
+        int following = next(current);
+        while (following != NIL && data(following) != value) {
+            current = following;
+            following = next(current);
+        }
+        
+        if (following != NIL) {
+            unlinkAfter(current, following);
+            return true;
+        }
+        
+        return false;
+    }
+    
+    // Search for a value and return its index
+    public int search(int value) {
+        ensureOpen();
+        int current = head;
+        int index = 0;
+        
+        while (current != NIL) {
+            if (data(current) == value) {
+                return index;
+            }
+            current = next(current);
+            index++;
+        }
+        
+        return -1; // Not found
+    }
+    
+    // Get element at specific index
+    public int get(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        return data(slotAt(index));
+    }
+    
+    // Update element at specific index
+    public void set(int index, int data) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        setData(slotAt(index), data);
+    }
+    
+    // Check if list contains a value
+    public boolean contains(int value) {
+        ensureOpen();
+        return search(value) != -1;
+    }
+    
+    // Count occurrences of a value
+    public int countOccurrences(int value) {
+        ensureOpen();
+        int count = 0;
+        
+        for (int current = head; current != NIL; current = next(current)) {
+            if (data(current) == value) {
+                count++;
+            }
+        }
+        
+        return count;
+    }
+    
+    // Get the size of the list
+    public int size() {
+        ensureOpen();
+        return size;
+    }
+    
+    // Check if list is empty
+    public boolean isEmpty() {
+        ensureOpen();
+        return size == 0;
+    }
+    
+    // Clear the entire list; the off-heap segments are kept and reused
+    public void clear() {
+        ensureOpen();
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        highWater = 0;
+        freeHead = NIL;
+    }
+    
+    // Reverse the linked list
+    public void reverse() {
+        ensureOpen();
+        int prev = NIL;
+        int current = head;
+        
+        while (current != NIL) {
+            int next = next(current);
+            setNext(current, prev);
+            prev = current;
+            current = next;
+        }
+        
+        tail = head;
+        head = prev;
+    }
+    
+    // Get the first element
+    public int getFirst() {
+        ensureOpen();
+        if (head == NIL) {
+            throw new RuntimeException("List is empty");
+        }
+        return data(head);
+    }
+    
+    // Get the last element
+    public int getLast() {
+        ensureOpen();
+        if (tail == NIL) {
+            throw new RuntimeException("List is empty");
+        }
+        return data(tail);
+    }
+    
+    // Find minimum value
+    public int findMin() {
+        ensureOpen();
+        if (head == NIL) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        int min = data(head);
+        for (int current = next(head); current != NIL; current = next(current)) {
+            min = Math.min(min, data(current));
+        }
+        
+        return min;
+    }
+    
+    // Find maximum value
+    public int findMax() {
+        ensureOpen();
+        if (head == NIL) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        int max = data(head);
+        for (int current = next(head); current != NIL; current = next(current)) {
+            max = Math.max(max, data(current));
+        }
+        
+        return max;
+    }
+    
+    // Calculate sum of all elements
+    public int sum() {
+        ensureOpen();
+        int sum = 0;
+        
+        for (int current = head; current != NIL; current = next(current)) {
+            sum += data(current);
+        }
+        
+        return sum;
+    }
+    
+    // Calculate average of all elements
+    public double average() {
+        ensureOpen();
+        if (size == 0) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        return (double) sum() / size;
+    }
+    
+    // Convert to array
+    public int[] toArray() {
+        ensureOpen();
+        int[] array = new int[size];
+        int index = 0;
+        
+        for (int current = head; current != NIL; current = next(current)) {
+            array[index++] = data(current);
+        }
+        
+        return array;
+    }
+    
+    // Sort the list (bottom-up merge sort that relinks slots, O(n log n) time). The values
+    // never leave off-heap memory; the only heap space is the 32 bins of the merge.
+    public void sort() {
+        ensureOpen();
+        if (size < 2) {
+            return;
+        }
+        
+        head = mergeSort(head, size);
+        int current = head;
+        while (next(current) != NIL) {
+            current = next(current);
+        }
+        tail = current;
+    }
+    
+    // Remove duplicates
+    public void removeDuplicates() {
+        ensureOpen();
+        if (head == NIL) {
+            return;
+        }
+        
+        int current = head;
+        int following = next(current);
+        while (following != NIL) {
+            if (data(current) == data(following)) {
+                unlinkAfter(current, following);
+            } else {
+                current = following;
+            }
+            following = next(current);
+        }
+    }
+    
+    // Number of node slots currently reserved off-heap
+    public long capacity() {
+        ensureOpen();
+        return (long) segmentCount * SLOTS_PER_SEGMENT;
+    }
+    
+    // Reserve off-heap space for at least minCapacity nodes up front
+    public void ensureCapacity(int minCapacity) {
+        ensureOpen();
+        while (capacity() < minCapacity) {
+            addSegment();
+        }
+    }
+    
+    // Release the off-heap segments. Their direct memory is freed right away rather than
+    // when the GC gets to the buffers; the list cannot be used afterwards.
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        
+        for (int i = 0; i < segmentCount; i++) {
+            DirectBuffers.free(segments[i]);
+        }
+        Arrays.fill(segments, null);
+        segments = null;
+        segmentCount = 0;
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        closed = true;
+    }
+    
+    // Display the list
+    public void display() {
+        ensureOpen();
+        if (head == NIL) {
+            System.out.println("List is empty");
+            return;
+        }
+        
+        System.out.print("OffHeapIntLinkedList: ");
+        for (int current = head; current != NIL; current = next(current)) {
+            System.out.print(data(current));
+            if (next(current) != NIL) {
+                System.out.print(" -> ");
+            }
+        }
+        System.out.println(" -> null");
+    }
+    
+    // Override toString method
+    @Override
+    public String toString() {
+        if (closed) {
+            return "[closed]";
+        }
+        
+        if (head == NIL) {
+            return "[]";
+        }
+        
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        
+        for (int current = head; current != NIL; current = next(current)) {
+            sb.append(data(current));
+            if (next(current) != NIL) {
+                sb.append(", ");
+            }
+        }
+        
+        sb.append("]");
+        return sb.toString();
+    }
+    
+    // Walk to the slot at index
+    private int slotAt(int index) {
+        ensureOpen();
+        if (index == size - 1) {
+            return tail;
+        }
+        
+        int current = head;
+        for (int i = 0; i < index; i++) {
+            current = next(current);
+        }
+        return current;
+    }
+    
+    // Sort the n-slot chain starting at first: bins[i] holds a sorted run of 2^i slots,
+    // and each slot taken off the chain is carried into the bins like a binary counter
+    private int mergeSort(int first, int n) {
+        int[] bins = new int[32];
+        Arrays.fill(bins, NIL);
+        int current = first;
+        
+        for (int i = 0; i < n; i++) {
+            int carry = current;
+            current = next(current);
+            setNext(carry, NIL);
+            
+            int bin = 0;
+            while (bins[bin] != NIL) {
+                carry = merge(bins[bin], carry);
+                bins[bin] = NIL;
+                bin++;
+            }
+            bins[bin] = carry;
+        }
+        
+        int result = NIL;
+        for (int bin : bins) {
+            if (bin != NIL) {
+                result = (result == NIL) ? bin : merge(bin, result);
+            }
+        }
+        return result;
+    }
+    
+    // Merge two sorted chains; ties keep slots from left first, so the sort is stable
+    private int merge(int left, int right) {
+        int first;
+        if (data(right) < data(left)) {
+            first = right;
+            right = next(right);
+        } else {
+            first = left;
+            left = next(left);
+        }
+        
+        int last = first;
+        while (left != NIL && right != NIL) {
+            if (data(right) < data(left)) {
+                setNext(last, right);
+                right = next(right);
+            } else {
+                setNext(last, left);
+                left = next(left);
+            }
+            last = next(last);
+        }
+        
+        setNext(last, (left != NIL) ? left : right);
+        return first;
+    }
+    
+    // Unlink the node after current and return its slot to the free list
+    private void unlinkAfter(int current, int slot) {
+        int following = next(slot);
+        setNext(current, following);
+        
+        if (following == NIL) {
+            tail = current;
+        }
+        release(slot);
+        size--;
+    }
+    
+    // Take a slot from the free list, or from fresh segment space
+    private int allocate(int data) {
+        ensureOpen();
+        int slot;
+        
+        if (freeHead != NIL) {
+            slot = freeHead;
+            freeHead = next(slot);
+        } else {
+            if (highWater == Integer.MAX_VALUE) {
+                throw new IllegalStateException("Off-heap list is full");
+            }
+            if (highWater >= capacity()) {
+                addSegment();
+            }
+            slot = highWater++;
+        }
+        
+        setData(slot, data);
+        setNext(slot, NIL);
+        return slot;
+    }
+    
+    // Put a slot back on the free list
+    private void release(int slot) {
+        setNext(slot, freeHead);
+        freeHead = slot;
+    }
+    
+    // Grow by one segment; existing segments never move, so growth copies nothing
+    private void addSegment() {
+        if (segmentCount == segments.length) {
+            segments = Arrays.copyOf(segments, segmentCount * 2);
+        }
+        
+        segments[segmentCount++] = ByteBuffer.allocateDirect(SLOTS_PER_SEGMENT * SLOT_BYTES)
+                .order(ByteOrder.nativeOrder());
+    }
+    
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+    
+    private int data(int slot) {
+        return segments[slot >>> SEGMENT_SHIFT].getInt((slot & SLOT_MASK) * SLOT_BYTES);
+    }
+    
+    private int next(int slot) {
+        return segments[slot >>> SEGMENT_SHIFT].getInt((slot & SLOT_MASK) * SLOT_BYTES + NEXT_OFFSET);
+    }
+    
+    private void setData(int slot, int data) {
+        segments[slot >>> SEGMENT_SHIFT].putInt((slot & SLOT_MASK) * SLOT_BYTES, data);
+    }
+    
+    private void setNext(int slot, int next) {
+        segments[slot >>> SEGMENT_SHIFT].putInt((slot & SLOT_MASK) * SLOT_BYTES + NEXT_OFFSET, next);
+    }
+    
+    // Main method for testing
+    public static void main(String[] args) {
+        try (OffHeapIntigerLinkedList list = new OffHeapIntigerLinkedList()) {
+            // Test insertions
+            list.insertAtHead(10);
+            list.insertAtHead(5);
+            list.insertAtTail(20);
+            list.insertAtTail(30);
+            list.insertAtIndex(2, 15);
+            list.insertAtTail(5); // Duplicate for testing
+            
+            System.out.println("After insertions: " + list);
+            System.out.println("Size: " + list.size());
+            
+            // Test mathematical operations
+            System.out.println("Sum: " + list.sum());
+            System.out.println("Average: " + list.average());
+            System.out.println("Min: " + list.findMin());
+            System.out.println("Max: " + list.findMax());
+            
+            // Test search and count
+            System.out.println("Search 15: " + list.search(15));
+            System.out.println("Contains 25: " + list.contains(25));
+            System.out.println("Count of 5: " + list.countOccurrences(5));
+            
+            // Test get/set
+            System.out.println("Element at index 2: " + list.get(2));
+            list.set(2, 25);
+            System.out.println("After setting index 2 to 25: " + list);
+            
+            // Test sorting
+            list.sort();
+            System.out.println("After sorting: " + list);
+            
+            // Test remove duplicates
+            list.removeDuplicates();
+            System.out.println("After removing duplicates: " + list);
+            
+            // Test deletions
+            System.out.println("Deleted from head: " + list.deleteFromHead());
+            System.out.println("Deleted from tail: " + list.deleteFromTail());
+            System.out.println("Delete value 20: " + list.deleteByValue(20));
+            System.out.println("After deletions: " + list);
+            
+            // Test reverse
+            list.insertAtTail(40);
+            list.reverse();
+            System.out.println("After reverse: " + list);
+            
+            // Test array conversion
+            System.out.println("As array: " + Arrays.toString(list.toArray()));
+            System.out.println("Reserved slots: " + list.capacity());
+            
+            // Display final state
+            list.display();
+        }
+        
+        // Test use after close: every operation throws instead of acting on an empty list
+        OffHeapIntigerLinkedList closed = new OffHeapIntigerLinkedList();
+        closed.insertAtTail(1);
+        closed.close();
+        try {
+            closed.deleteFromHead();
+        } catch (IllegalStateException e) {
+            System.out.println("After close: " + e.getMessage());
+        }
+    }
+}
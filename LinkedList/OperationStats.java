@@ -0,0 +1,80 @@
+package LinkedList;
+
+// Numbers for one kind of list operation, copied out of a ListMetrics at one moment.
+// Latencies are in nanoseconds; percentiles are accurate to about 3%.
+public final class OperationStats {
+    
+    private final String operation;
+    private final long count;
+    private final long nodesTraversed;
+    private final long allocations;
+    private final long totalLatencyNanos;
+    private final long maxLatencyNanos;
+    private final long[] latencyCounts;
+    
+    OperationStats(String operation, long count, long nodesTraversed, long allocations,
+                   long totalLatencyNanos, long maxLatencyNanos, long[] latencyCounts) {
+        this.operation = operation;
+        this.count = count;
+        this.nodesTraversed = nodesTraversed;
+        this.allocations = allocations;
+        this.totalLatencyNanos = totalLatencyNanos;
+        this.maxLatencyNanos = maxLatencyNanos;
+        this.latencyCounts = latencyCounts;
+    }
+    
+    // Name of the operation, as in ListMetrics.Operation
+    public String getOperation() {
+        return operation;
+    }
+    
+    // Number of operations recorded
+    public long getCount() {
+        return count;
+    }
+    
+    // List nodes stepped over while finding positions and values
+    public long getNodesTraversed() {
+        return nodesTraversed;
+    }
+    
+    // Nodes allocated (nodes taken from a node pool are not counted)
+    public long getAllocations() {
+        return allocations;
+    }
+    
+    public double getMeanLatencyNanos() {
+        return count == 0 ? 0.0 : (double) totalLatencyNanos / count;
+    }
+    
+    public long getMedianLatencyNanos() {
+        return latencyAtPercentile(50.0);
+    }
+    
+    public long getP99LatencyNanos() {
+        return latencyAtPercentile(99.0);
+    }
+    
+    public long getP999LatencyNanos() {
+        return latencyAtPercentile(99.9);
+    }
+    
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+    
+    // Latency that percent (0 to 100) of the operations took at most
+    public long latencyAtPercentile(double percent) {
+        if (percent < 0.0 || percent > 100.0) {
+            throw new IllegalArgumentException("Percentile must be in [0, 100]: " + percent);
+        }
+        return Math.min(LatencyHistogram.valueAtPercentile(latencyCounts, percent), maxLatencyNanos);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%s: count=%d, traversed=%d, allocations=%d, mean=%.0fns, p50=%dns, p99=%dns, p99.9=%dns, max=%dns",
+                operation, count, nodesTraversed, allocations, getMeanLatencyNanos(),
+                getMedianLatencyNanos(), getP99LatencyNanos(), getP999LatencyNanos(), maxLatencyNanos);
+    }
+}
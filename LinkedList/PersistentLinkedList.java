@@ -0,0 +1,271 @@
+package LinkedList;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+// Immutable singly linked list. Every "modifying" operation returns a new version and
+// leaves the old one untouched, and versions share every node they have in common:
+// insertAtHead and deleteFromHead are O(1) and allocate at most one node, and changes
+// at an index copy only the nodes in front of it. Old versions stay valid forever, so
+// they can be handed to other threads as snapshots without locks.
+//
+//   v1 = [10] -> [20] -> [30]
+//   v2 = v1.insertAtHead(5):   [5] -> (shares [10] -> [20] -> [30])
+//   v3 = v1.deleteFromHead():  (shares [20] -> [30])
+public final class PersistentLinkedList<T> implements ListSnapshot<T> {
+    
+    // Node class to represent individual elements; never changes after construction
+    private static final class Node<T> {
+        final T data;
+        final Node<T> next;
+        
+        Node(T data, Node<T> next) {
+            this.data = data;
+            this.next = next;
+        }
+    }
+    
+    private static final PersistentLinkedList<?> EMPTY = new PersistentLinkedList<>(null, 0);
+    
+    private final Node<T> head;
+    private final int size;
+    
+    private PersistentLinkedList(Node<T> head, int size) {
+        this.head = head;
+        this.size = size;
+    }
+    
+    // The empty list (one shared instance)
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentLinkedList<T> empty() {
+        return (PersistentLinkedList<T>) EMPTY;
+    }
+    
+    // A list holding values in order
+    @SafeVarargs
+    public static <T> PersistentLinkedList<T> of(T... values) {
+        Node<T> node = null;
+        for (int i = values.length - 1; i >= 0; i--) {
+            node = new Node<>(values[i], node);
+        }
+        return new PersistentLinkedList<>(node, values.length);
+    }
+    
+    // New version with data at the beginning (O(1), shares this whole list)
+    public PersistentLinkedList<T> insertAtHead(T data) {
+        return new PersistentLinkedList<>(new Node<>(data, head), size + 1);
+    }
+    
+    // New version with data at the end (O(n): every node points at the end, so all are copied)
+    public PersistentLinkedList<T> insertAtTail(T data) {
+        return insertAtIndex(size, data);
+    }
+    
+    // New version with data at index (copies the index nodes in front of it)
+    public PersistentLinkedList<T> insertAtIndex(int index, T data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        Node<T> suffix = nodeAt(index);
+        return new PersistentLinkedList<>(copyPrefix(index, new Node<>(data, suffix)), size + 1);
+    }
+    
+    // New version without the first element (O(1), allocates nothing but the version)
+    public PersistentLinkedList<T> deleteFromHead() {
+        if (head == null) {
+            throw new RuntimeException("List is empty");
+        }
+        return size == 1 ? empty() : new PersistentLinkedList<>(head.next, size - 1);
+    }
+    
+    // New version without the last element (copies all other nodes)
+    public PersistentLinkedList<T> deleteFromTail() {
+        if (head == null) {
+            throw new RuntimeException("List is empty");
+        }
+        return deleteAtIndex(size - 1);
+    }
+    
+    // New version without the element at index (copies the index nodes in front of it)
+    public PersistentLinkedList<T> deleteAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        Node<T> suffix = nodeAt(index).next;
+        return size == 1 ? empty() : new PersistentLinkedList<>(copyPrefix(index, suffix), size - 1);
+    }
+    
+    // New version without the first occurrence of value, or this list if there is none
+    public PersistentLinkedList<T> deleteByValue(T value) {
+        int index = search(value);
+        return index == -1 ? this : deleteAtIndex(index);
+    }
+    
+    // New version with the element at index replaced (copies the nodes up to index)
+    public PersistentLinkedList<T> set(int index, T data) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        Node<T> suffix = nodeAt(index).next;
+        return new PersistentLinkedList<>(copyPrefix(index, new Node<>(data, suffix)), size);
+    }
+    
+    // New version in reverse order (O(n), shares nothing)
+    public PersistentLinkedList<T> reverse() {
+        Node<T> reversed = null;
+        for (Node<T> current = head; current != null; current = current.next) {
+            reversed = new Node<>(current.data, reversed);
+        }
+        return new PersistentLinkedList<>(reversed, size);
+    }
+    
+    // Get the number of elements
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    // Get element at specific index
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return nodeAt(index).data;
+    }
+    
+    // Get the first element
+    @Override
+    public T getFirst() {
+        if (head == null) {
+            throw new RuntimeException("List is empty");
+        }
+        return head.data;
+    }
+    
+    // Get the last element (O(n): the list only links forwards)
+    @Override
+    public T getLast() {
+        if (head == null) {
+            throw new RuntimeException("List is empty");
+        }
+        return nodeAt(size - 1).data;
+    }
+    
+    // Search for a value and return its index
+    @Override
+    public int search(T value) {
+        int index = 0;
+        for (Node<T> current = head; current != null; current = current.next) {
+            if (Objects.equals(current.data, value)) {
+                return index;
+            }
+            index++;
+        }
+        return -1; // Not found
+    }
+    
+    // Convert to array
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int index = 0;
+        for (Node<T> current = head; current != null; current = current.next) {
+            array[index++] = current.data;
+        }
+        return array;
+    }
+    
+    // Iterate from head to tail
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private Node<T> next = head;
+            
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+            
+            @Override
+            public T next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                T data = next.data;
+                next = next.next;
+                return data;
+            }
+        };
+    }
+    
+    // Override toString method
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        
+        for (Node<T> current = head; current != null; current = current.next) {
+            sb.append(current.data);
+            if (current.next != null) {
+                sb.append(", ");
+            }
+        }
+        
+        sb.append("]");
+        return sb.toString();
+    }
+    
+    private Node<T> nodeAt(int index) {
+        Node<T> current = head;
+        for (int i = 0; i < index; i++) {
+            current = current.next;
+        }
+        return current;
+    }
+    
+    // Copies of the first n nodes, with the copy of the last one pointing at suffix
+    private Node<T> copyPrefix(int n, Node<T> suffix) {
+        if (n == 0) {
+            return suffix;
+        }
+        
+        Node<T>[] prefix = prefixNodes(n);
+        Node<T> result = suffix;
+        for (int i = n - 1; i >= 0; i--) {
+            result = new Node<>(prefix[i].data, result);
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Node<T>[] prefixNodes(int n) {
+        Node<T>[] nodes = (Node<T>[]) new Node<?>[n];
+        Node<T> current = head;
+        for (int i = 0; i < n; i++) {
+            nodes[i] = current;
+            current = current.next;
+        }
+        return nodes;
+    }
+    
+    // Main method for testing
+    public static void main(String[] args) {
+        PersistentLinkedList<Integer> v1 = PersistentLinkedList.of(10, 20, 30);
+        PersistentLinkedList<Integer> v2 = v1.insertAtHead(5);
+        PersistentLinkedList<Integer> v3 = v1.deleteFromHead();
+        PersistentLinkedList<Integer> v4 = v2.set(2, 25).insertAtTail(40);
+        
+        System.out.println("v1: " + v1);
+        System.out.println("v2 = v1.insertAtHead(5): " + v2);
+        System.out.println("v3 = v1.deleteFromHead(): " + v3);
+        System.out.println("v4 = v2.set(2, 25).insertAtTail(40): " + v4);
+        System.out.println("v4 reversed: " + v4.reverse() + ", v4 still: " + v4);
+        System.out.println("v2 search 20: " + v2.search(20) + ", v4 contains 20: " + v4.contains(20));
+        System.out.println("Sum of v4 by stream: " + v4.stream().mapToInt(Integer::intValue).sum());
+    }
+}
@@ -0,0 +1,391 @@
+package LinkedList;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+// Concurrent bag of ints for many appending threads, built like LongAdder: the elements are
+// spread over several stripes (by default one per CPU), each a plain IntigerLinkedList with
+// its own lock. A thread appends to the stripe its thread id hashes to, so threads on
+// different stripes never touch the same lock or the same nodes. A thread that finds its
+// stripe busy moves on to the next one instead of waiting.
+//
+// Element order is only kept within a stripe, so this is for buffers that are added to and
+// then counted, summed or drained, not for positional access. size and sum add up per-stripe
+// counters without locking, as LongAdder.sum does; the other aggregates scan the stripes in
+// parallel, each under its own lock.
+public class ShardedIntigerLinkedList {
+    
+    // Default number of stripes: the number of CPUs, rounded up to a power of two
+    public static final int DEFAULT_STRIPES =
+            Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1));
+    
+    // The aggregates only go parallel for at least this many elements
+    private static final int PARALLEL_AGGREGATE_THRESHOLD = 1 << 14;
+    
+    // One stripe: its list and lock, plus counters that readers may read without the lock
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        final IntigerLinkedList list = new IntigerLinkedList();
+        int count;      // written with release, read with acquire (see COUNT and SUM)
+        long sum;
+    }
+    
+    // Only the thread holding a stripe's lock writes its counters, so a release store is
+    // enough, and it is cheaper than a volatile store on every append
+    private static final VarHandle COUNT;
+    private static final VarHandle SUM;
+    
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            COUNT = lookup.findVarHandle(Stripe.class, "count", int.class);
+            SUM = lookup.findVarHandle(Stripe.class, "sum", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+    
+    // Stripes are created by the first thread that appends to them, so each stripe's
+    // objects land in that thread's allocation buffer rather than next to the others
+    private final AtomicReferenceArray<Stripe> stripes;
+    private final int mask;
+    
+    // Constructor
+    public ShardedIntigerLinkedList() {
+        this(DEFAULT_STRIPES);
+    }
+    
+    // Constructor with a custom number of stripes (a power of two)
+    public ShardedIntigerLinkedList(int stripes) {
+        if (stripes <= 0 || (stripes & (stripes - 1)) != 0) {
+            throw new IllegalArgumentException("Stripes must be a positive power of two: " + stripes);
+        }
+        this.stripes = new AtomicReferenceArray<>(stripes);
+        this.mask = stripes - 1;
+    }
+    
+    // Append a value to the calling thread's stripe
+    public void insertAtTail(int data) {
+        long id = Thread.currentThread().getId();
+        int home = (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        
+        // Take the first free stripe, starting from this thread's own
+        for (int i = 0; i <= mask; i++) {
+            Stripe stripe = stripe((home + i) & mask);
+            if (stripe.lock.tryLock()) {
+                try {
+                    append(stripe, data);
+                } finally {
+                    stripe.lock.unlock();
+                }
+                return;
+            }
+        }
+        
+        // Every stripe is busy: wait for this thread's own
+        Stripe stripe = stripe(home);
+        stripe.lock.lock();
+        try {
+            append(stripe, data);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+    
+    // Number of elements (a moving snapshot while threads are appending)
+    public int size() {
+        int size = 0;
+        for (int i = 0; i <= mask; i++) {
+            Stripe stripe = stripes.get(i);
+            if (stripe != null) {
+                size += (int) COUNT.getAcquire(stripe);
+            }
+        }
+        return size;
+    }
+    
+    // Check if the list is empty
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+    
+    // Sum of all elements, from the per-stripe sums (a moving snapshot, as size)
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i <= mask; i++) {
+            Stripe stripe = stripes.get(i);
+            if (stripe != null) {
+                sum += (long) SUM.getAcquire(stripe);
+            }
+        }
+        return sum;
+    }
+    
+    // Calculate average of all elements
+    public double average() {
+        // Read the stripes one at a time so that count and sum belong together
+        long count = 0;
+        long sum = 0;
+        for (int i = 0; i <= mask; i++) {
+            Stripe stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+            stripe.lock.lock();
+            try {
+                count += stripe.count;
+                sum += stripe.sum;
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        
+        if (count == 0) {
+            throw new RuntimeException("List is empty");
+        }
+        return (double) sum / count;
+    }
+    
+    // Count occurrences of a value; the stripes are scanned in parallel
+    public int countOccurrences(int value) {
+        return stripeIndexes()
+                .map(i -> {
+                    Stripe stripe = stripes.get(i);
+                    stripe.lock.lock();
+                    try {
+                        return stripe.list.countOccurrences(value);
+                    } finally {
+                        stripe.lock.unlock();
+                    }
+                })
+                .sum();
+    }
+    
+    // Check if any stripe contains a value
+    public boolean contains(int value) {
+        return stripeIndexes()
+                .anyMatch(i -> {
+                    Stripe stripe = stripes.get(i);
+                    stripe.lock.lock();
+                    try {
+                        return stripe.list.contains(value);
+                    } finally {
+                        stripe.lock.unlock();
+                    }
+                });
+    }
+    
+    // Count, sum (as long), min, max and average; the stripes are scanned in parallel
+    public IntSummaryStatistics summaryStatistics() {
+        return stripeIndexes()
+                .mapToObj(i -> {
+                    Stripe stripe = stripes.get(i);
+                    stripe.lock.lock();
+                    try {
+                        return stripe.list.summaryStatistics();
+                    } finally {
+                        stripe.lock.unlock();
+                    }
+                })
+                .collect(IntSummaryStatistics::new, IntSummaryStatistics::combine, IntSummaryStatistics::combine);
+    }
+    
+    // Find minimum value
+    public int findMin() {
+        IntSummaryStatistics statistics = summaryStatistics();
+        if (statistics.getCount() == 0) {
+            throw new RuntimeException("List is empty");
+        }
+        return statistics.getMin();
+    }
+    
+    // Find maximum value
+    public int findMax() {
+        IntSummaryStatistics statistics = summaryStatistics();
+        if (statistics.getCount() == 0) {
+            throw new RuntimeException("List is empty");
+        }
+        return statistics.getMax();
+    }
+    
+    // Move every element to the end of target, one stripe after the other, and return how
+    // many were moved. Each stripe is handed over with appendAll, so this is O(stripes) and
+    // appenders are only held up while their stripe is being relinked.
+    public int drainTo(IntigerLinkedList target) {
+        int moved = 0;
+        for (int i = 0; i <= mask; i++) {
+            Stripe stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+            stripe.lock.lock();
+            try {
+                moved += stripe.count;
+                target.appendAll(stripe.list);
+                COUNT.setRelease(stripe, 0);
+                SUM.setRelease(stripe, 0L);
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return moved;
+    }
+    
+    // Clear the entire list
+    public void clear() {
+        for (int i = 0; i <= mask; i++) {
+            Stripe stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+            stripe.lock.lock();
+            try {
+                stripe.list.clear();
+                COUNT.setRelease(stripe, 0);
+                SUM.setRelease(stripe, 0L);
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+    
+    // Convert to array, stripe by stripe
+    public int[] toArray() {
+        List<int[]> parts = new ArrayList<>();
+        int length = 0;
+        for (int i = 0; i <= mask; i++) {
+            Stripe stripe = stripes.get(i);
+            if (stripe == null) {
+                continue;
+            }
+            stripe.lock.lock();
+            try {
+                int[] part = stripe.list.toArray();
+                parts.add(part);
+                length += part.length;
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        
+        int[] array = new int[length];
+        int offset = 0;
+        for (int[] part : parts) {
+            System.arraycopy(part, 0, array, offset, part.length);
+            offset += part.length;
+        }
+        return array;
+    }
+    
+    // Called with the stripe's lock held; the counters have a single writer at a time
+    private static void append(Stripe stripe, int data) {
+        stripe.list.insertAtTail(data);
+        COUNT.setRelease(stripe, stripe.count + 1);
+        SUM.setRelease(stripe, stripe.sum + data);
+    }
+    
+    private Stripe stripe(int index) {
+        Stripe stripe = stripes.get(index);
+        if (stripe == null) {
+            stripes.compareAndSet(index, null, new Stripe());
+            stripe = stripes.get(index);
+        }
+        return stripe;
+    }
+    
+    // Indexes of the stripes in use, as a parallel stream once there is enough to scan
+    private IntStream stripeIndexes() {
+        IntStream indexes = IntStream.rangeClosed(0, mask).filter(i -> stripes.get(i) != null);
+        return size() >= PARALLEL_AGGREGATE_THRESHOLD ? indexes.parallel() : indexes;
+    }
+    
+    // Override toString method
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        int[] values = toArray();
+        for (int i = 0; i < values.length; i++) {
+            sb.append(values[i]);
+            if (i < values.length - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+    
+    // Main method for testing: many appending threads and a reporter
+    public static void main(String[] args) throws InterruptedException {
+        ShardedIntigerLinkedList list = new ShardedIntigerLinkedList();
+        
+        // Test basic operations
+        list.insertAtTail(10);
+        list.insertAtTail(20);
+        list.insertAtTail(10);
+        System.out.println("After insertions: " + list);
+        System.out.println("Size: " + list.size());
+        System.out.println("Sum: " + list.sum());
+        System.out.println("Average: " + list.average());
+        System.out.println("Count of 10: " + list.countOccurrences(10));
+        System.out.println("Summary: " + list.summaryStatistics());
+        
+        // Every thread appends its own run of values while a reporter keeps asking for totals
+        int threadCount = 16;
+        int perThread = 200_000;
+        ShardedIntigerLinkedList events = new ShardedIntigerLinkedList();
+        IntigerLinkedList drained = new IntigerLinkedList();
+        LongAdder reports = new LongAdder();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    events.insertAtTail(i % 100);
+                }
+            }));
+        }
+        Thread reporter = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                events.sum();
+                events.countOccurrences(7);
+                if (reports.sum() % 16 == 0) {
+                    events.drainTo(drained);
+                }
+                reports.increment();
+            }
+        });
+        
+        long startTime = System.nanoTime();
+        reporter.start();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        reporter.interrupt();
+        reporter.join();
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+        events.drainTo(drained);
+        
+        long total = (long) threadCount * perThread;
+        long expectedSum = threadCount * (perThread / 100) * (99L * 100 / 2);
+        boolean consistent = drained.size() == total
+                && drained.summaryStatistics().getSum() == expectedSum
+                && events.isEmpty()
+                && events.sum() == 0;
+        System.out.println("Stress test: " + threadCount + " threads, " + total + " appends and "
+                + reports.sum() + " reports in " + elapsedMillis + " ms (" + (total * 1000 / elapsedMillis)
+                + " appends/s), consistent: " + consistent);
+        if (!consistent) {
+            throw new IllegalStateException("List lost or duplicated elements");
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package LinkedList;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.UnaryOperator;
+
+// Indexable skip-list layer that sits on top of a linked list's own nodes.
+// Level 0 is the list itself; every express lane above it stores, for each
+// tower, the number of list steps ("width") to the next tower on that lane.
+// That lets a list find the node at any index in O(log n) expected time,
+// then walk the last few steps on its own next pointers.
+class SkipListIndex<N> {
+    
+    // Maximum number of express lanes above the list (level 0)
+    private static final int MAX_LEVEL = 32;
+    
+    // One tower node on an express lane
+    private static class Tower<N> {
+        N base;           // list node this tower stands on (null for the lane's head)
+        int width;        // list steps to the next tower (or to the end of the list)
+        Tower<N> right;
+        Tower<N> down;
+        
+        Tower(N base, int width) {
+            this.base = base;
+            this.width = width;
+        }
+    }
+    
+    private final double promotionProbability;
+    private Tower<N> top;      // head of the highest lane (position -1)
+    private int levels;        // lanes in use; lane 1 always exists, even when empty
+    private int size;
+    
+    // Used while rebuilding the index in one pass
+    private Tower<?>[] lastTowers;
+    private int[] lastPositions;
+    
+    // promotionProbability is the chance that a tower grows one more level: lower values
+    // use less memory (about n * p / (1 - p) towers) but leave about 1 / p list steps per lane
+    SkipListIndex(double promotionProbability) {
+        if (!(promotionProbability > 0.0 && promotionProbability < 1.0)) {
+            throw new IllegalArgumentException("Promotion probability must be in (0, 1): " + promotionProbability);
+        }
+        this.promotionProbability = promotionProbability;
+        clear();
+    }
+    
+    double promotionProbability() {
+        return promotionProbability;
+    }
+    
+    // Forget every tower
+    void clear() {
+        top = new Tower<>(null, 1);
+        levels = 1;
+        size = 0;
+    }
+    
+    // Find the list node at index: jump along the lanes to the last tower at or before
+    // index, then follow next for the remaining steps (from first when no tower comes
+    // before index). Only reads, so several threads may look up nodes at once.
+    N nodeAt(int index, N first, UnaryOperator<N> next) {
+        Tower<N> x = top;
+        int pos = -1;
+        
+        while (true) {
+            while (x.right != null && pos + x.width <= index) {
+                pos += x.width;
+                x = x.right;
+            }
+            if (x.down == null) {
+                break;
+            }
+            x = x.down;
+        }
+        
+        N current = x.base;
+        if (current == null) {
+            current = first;
+            pos = 0;
+        }
+        for (; pos < index; pos++) {
+            current = next.apply(current);
+        }
+        return current;
+    }
+    
+    // Record that node was inserted at index (elements at index and beyond shift right)
+    void inserted(int index, N node) {
+        int height = randomHeight();
+        while (levels < height) {
+            Tower<N> lane = new Tower<>(null, size + 1);
+            lane.down = top;
+            top = lane;
+            levels++;
+        }
+        
+        Tower<N> x = top;
+        Tower<N> above = null;
+        int pos = -1;
+        
+        for (int level = levels; level >= 1; level--) {
+            while (x.right != null && pos + x.width < index) {
+                pos += x.width;
+                x = x.right;
+            }
+            
+            if (level <= height) {
+                Tower<N> tower = new Tower<>(node, pos + x.width + 1 - index);
+                tower.right = x.right;
+                x.right = tower;
+                x.width = index - pos;
+                
+                if (above != null) {
+                    above.down = tower;
+                }
+                above = tower;
+            } else {
+                x.width++;
+            }
+            x = x.down;
+        }
+        size++;
+    }
+    
+    // Record that node, which was at index, has been removed from the list
+    void removed(int index, N node) {
+        Tower<N> x = top;
+        int pos = -1;
+        
+        while (x != null) {
+            while (x.right != null && pos + x.width < index) {
+                pos += x.width;
+                x = x.right;
+            }
+            
+            if (x.right != null && x.right.base == node) {
+                x.width += x.right.width - 1;
+                x.right = x.right.right;
+            } else {
+                x.width--;
+            }
+            x = x.down;
+        }
+        size--;
+        
+        while (levels > 1 && top.right == null) {
+            top = top.down;
+            levels--;
+        }
+    }
+    
+    // Start rebuilding the index from scratch; feed every node in list order to append()
+    void beginRebuild() {
+        clear();
+        lastTowers = new Tower<?>[MAX_LEVEL + 1];
+        lastPositions = new int[MAX_LEVEL + 1];
+        lastTowers[1] = top;
+        lastPositions[1] = -1;
+    }
+    
+    // Add the next node (at position size) while rebuilding
+    @SuppressWarnings("unchecked")
+    void append(N node) {
+        int height = randomHeight();
+        while (levels < height) {
+            Tower<N> lane = new Tower<>(null, 0);
+            lane.down = top;
+            top = lane;
+            levels++;
+            lastTowers[levels] = lane;
+            lastPositions[levels] = -1;
+        }
+        
+        Tower<N> below = null;
+        for (int level = 1; level <= height; level++) {
+            Tower<N> last = (Tower<N>) lastTowers[level];
+            Tower<N> tower = new Tower<>(node, 0);
+            tower.down = below;
+            last.width = size - lastPositions[level];
+            last.right = tower;
+            lastTowers[level] = tower;
+            lastPositions[level] = size;
+            below = tower;
+        }
+        size++;
+    }
+    
+    // Finish rebuilding: the last tower on each lane spans to the end of the list
+    void endRebuild() {
+        for (int level = 1; level <= levels; level++) {
+            lastTowers[level].width = size - lastPositions[level];
+        }
+        lastTowers = null;
+        lastPositions = null;
+    }
+    
+    private int randomHeight() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int height = 0;
+        while (height < MAX_LEVEL && random.nextDouble() < promotionProbability) {
+            height++;
+        }
+        return height;
+    }
+}
@@ -0,0 +1,183 @@
+package LinkedList;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+// Reads list snapshots written by SnapshotWriter (see there for the format). Each
+// block is read whole into a reused array and its checksum verified before any of its
+// elements are handed out. Callers decode exactly remaining() elements per block.
+final class SnapshotReader {
+    
+    private final ReadableByteChannel channel;
+    private final CRC32 checksum = new CRC32();
+    private byte[] block;
+    private int position;   // next payload byte to decode
+    private int end;        // end of the current block's payload
+    private int remaining;  // elements of the current block not decoded yet
+    private int previous;   // last int decoded, for the delta encoding
+    private long previousLong;
+    private DataInputStream elementInput;
+    
+    // Read and check the stream header; kind must match what the snapshot holds
+    SnapshotReader(ReadableByteChannel channel, byte kind) throws IOException {
+        this.channel = channel;
+        this.block = new byte[SnapshotWriter.MAX_INT_BLOCK_BYTES];
+        
+        readFully(0, SnapshotWriter.STREAM_HEADER_BYTES);
+        ByteBuffer header = ByteBuffer.wrap(block).order(ByteOrder.LITTLE_ENDIAN);
+        if (header.getInt(0) != SnapshotWriter.MAGIC) {
+            throw new IOException("Not a list snapshot");
+        }
+        if (header.get(4) != SnapshotWriter.VERSION) {
+            throw new IOException("Unsupported snapshot version: " + header.get(4));
+        }
+        if (header.get(5) != kind) {
+            throw new IOException("Snapshot was written by a different kind of list");
+        }
+        if (header.getShort(6) != 0) {
+            throw corrupt("bad stream header");
+        }
+    }
+    
+    // Load and verify the next block; returns false at the end block
+    boolean nextBlock() throws IOException {
+        if (remaining != 0 || position != end) {
+            throw corrupt("block length does not match its elements");
+        }
+        
+        readFully(0, SnapshotWriter.BLOCK_HEADER_BYTES);
+        ByteBuffer view = ByteBuffer.wrap(block).order(ByteOrder.LITTLE_ENDIAN);
+        int count = view.getInt(0);
+        int length = view.getInt(4);
+        if (count < 0 || length < 0 || length > SnapshotWriter.MAX_BLOCK_BYTES) {
+            throw corrupt("bad block header");
+        }
+        
+        int payloadEnd = SnapshotWriter.BLOCK_HEADER_BYTES + length;
+        if (payloadEnd + SnapshotWriter.CHECKSUM_BYTES > block.length) {
+            block = Arrays.copyOf(block, payloadEnd + SnapshotWriter.CHECKSUM_BYTES);
+            view = ByteBuffer.wrap(block).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        readFully(SnapshotWriter.BLOCK_HEADER_BYTES, length + SnapshotWriter.CHECKSUM_BYTES);
+        
+        checksum.reset();
+        checksum.update(block, 0, payloadEnd);
+        if ((int) checksum.getValue() != view.getInt(payloadEnd)) {
+            throw corrupt("checksum mismatch");
+        }
+        
+        position = SnapshotWriter.BLOCK_HEADER_BYTES;
+        end = payloadEnd;
+        remaining = count;
+        previous = 0;
+        previousLong = 0;
+        return count > 0;
+    }
+    
+    // Elements of the current block not decoded yet
+    int remaining() {
+        return remaining;
+    }
+    
+    // Decode the next value of an int snapshot
+    int nextInt() throws IOException {
+        byte[] bytes = block;
+        int pos = position;
+        int limit = end;
+        int zigZag = 0;
+        
+        for (int shift = 0; ; shift += 7) {
+            if (pos == limit || shift > 28) {
+                throw corrupt("bad varint");
+            }
+            int b = bytes[pos++];
+            zigZag |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                break;
+            }
+        }
+        
+        position = pos;
+        remaining--;
+        int value = previous + ((zigZag >>> 1) ^ -(zigZag & 1));
+        previous = value;
+        return value;
+    }
+    
+    // Decode the next value of a long snapshot (or the bits of the next value of a double one)
+    long nextLong() throws IOException {
+        byte[] bytes = block;
+        int pos = position;
+        int limit = end;
+        long zigZag = 0;
+        
+        for (int shift = 0; ; shift += 7) {
+            if (pos == limit || shift > 63) {
+                throw corrupt("bad varint");
+            }
+            int b = bytes[pos++];
+            zigZag |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                break;
+            }
+        }
+        
+        position = pos;
+        remaining--;
+        long value = previousLong + ((zigZag >>> 1) ^ -(zigZag & 1));
+        previousLong = value;
+        return value;
+    }
+    
+    // Decode the next element of an element snapshot
+    <E> E nextElement(ElementCodec<? extends E> codec) throws IOException {
+        if (elementInput == null) {
+            elementInput = new DataInputStream(new BlockInput());
+        }
+        remaining--;
+        return codec.decode(elementInput);
+    }
+    
+    private void readFully(int offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(block, offset, length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Snapshot is truncated");
+            }
+        }
+    }
+    
+    private static IOException corrupt(String reason) {
+        return new IOException("Snapshot is corrupt: " + reason);
+    }
+    
+    // Lets an ElementCodec read straight from the current block, never past its payload
+    private class BlockInput extends InputStream {
+        
+        @Override
+        public int read() {
+            return position < end ? block[position++] & 0xFF : -1;
+        }
+        
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (position == end) {
+                return -1;
+            }
+            
+            int n = Math.min(length, end - position);
+            System.arraycopy(block, position, bytes, offset, n);
+            position += n;
+            return n;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package LinkedList;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+// Writes list snapshots in the binary format shared by IntigerLinkedList, LongLinkedList,
+// DoubleLinkedList and GenericLinkedList (read back by SnapshotReader):
+//
+//   stream: [magic "LLS1"][version][kind][2 reserved bytes] block* [end block]
+//   block:  [count: int][length: int][payload: length bytes][CRC32 of count, length, payload]
+//   end:    a block with count 0
+//
+// Ints in the framing are little-endian. An int payload stores each value as the
+// zig-zag encoded difference to the previous one (0 at the start of each block) in a
+// varint, so sorted or clustered lists take one or two bytes per element. A long payload
+// is encoded the same way in 64 bits; a double payload is the long payload of the raw bits
+// of each value. An element payload is whatever the ElementCodec writes. Blocks are
+// encoded into one reused array and handed to the channel in a single write, so the
+// whole list is never copied.
+final class SnapshotWriter {
+    
+    static final int MAGIC = 0x31534C4C; // "LLS1"
+    static final byte VERSION = 1;
+    static final byte KIND_INT = 1;
+    static final byte KIND_ELEMENT = 2;
+    static final byte KIND_LONG = 3;
+    static final byte KIND_DOUBLE = 4;
+    
+    static final int STREAM_HEADER_BYTES = 8;
+    static final int BLOCK_HEADER_BYTES = 8;
+    static final int CHECKSUM_BYTES = 4;
+    
+    // A block holds at most this many elements
+    static final int BLOCK_ELEMENTS = 1 << 14;
+    // Element blocks are also closed once their payload reaches this many bytes
+    static final int BLOCK_TARGET_BYTES = 1 << 16;
+    // Largest payload a block may have (lets the reader reject a corrupt length)
+    static final int MAX_BLOCK_BYTES = 1 << 26;
+    
+    // A varint of an int takes at most 5 bytes
+    static final int MAX_INT_BLOCK_BYTES = BLOCK_HEADER_BYTES + BLOCK_ELEMENTS * 5 + CHECKSUM_BYTES;
+    // and a varint of a long at most 10
+    static final int MAX_LONG_BLOCK_BYTES = BLOCK_HEADER_BYTES + BLOCK_ELEMENTS * 10 + CHECKSUM_BYTES;
+    
+    private final WritableByteChannel channel;
+    private final CRC32 checksum = new CRC32();
+    private byte[] block;
+    private int position;   // end of the block encoded so far
+    private int count;      // elements in the current block
+    private int previous;   // last int written, for the delta encoding
+    private long previousLong;
+    private DataOutputStream elementOutput;
+    
+    // Start a snapshot of the given kind by writing the stream header
+    SnapshotWriter(WritableByteChannel channel, byte kind) throws IOException {
+        this.channel = channel;
+        this.block = new byte[kind == KIND_LONG || kind == KIND_DOUBLE ? MAX_LONG_BLOCK_BYTES : MAX_INT_BLOCK_BYTES];
+        this.position = BLOCK_HEADER_BYTES;
+        
+        ByteBuffer header = ByteBuffer.allocate(STREAM_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).put(VERSION).put(kind).putShort((short) 0).flip();
+        writeFully(header);
+    }
+    
+    // Append one value to an int snapshot
+    void writeInt(int value) throws IOException {
+        int delta = value - previous;
+        int zigZag = (delta << 1) ^ (delta >> 31);
+        previous = value;
+        
+        byte[] bytes = block;
+        int pos = position;
+        while ((zigZag & ~0x7F) != 0) {
+            bytes[pos++] = (byte) (zigZag | 0x80);
+            zigZag >>>= 7;
+        }
+        bytes[pos++] = (byte) zigZag;
+        position = pos;
+        
+        if (++count == BLOCK_ELEMENTS) {
+            flushBlock();
+        }
+    }
+    
+    // Append one value to a long snapshot (or the bits of one value to a double snapshot)
+    void writeLong(long value) throws IOException {
+        long delta = value - previousLong;
+        long zigZag = (delta << 1) ^ (delta >> 63);
+        previousLong = value;
+        
+        byte[] bytes = block;
+        int pos = position;
+        while ((zigZag & ~0x7FL) != 0) {
+            bytes[pos++] = (byte) (zigZag | 0x80);
+            zigZag >>>= 7;
+        }
+        bytes[pos++] = (byte) zigZag;
+        position = pos;
+        
+        if (++count == BLOCK_ELEMENTS) {
+            flushBlock();
+        }
+    }
+    
+    // Append one element to an element snapshot
+    <E> void writeElement(E value, ElementCodec<? super E> codec) throws IOException {
+        if (elementOutput == null) {
+            elementOutput = new DataOutputStream(new BlockOutput());
+        }
+        codec.encode(value, elementOutput);
+        
+        if (++count == BLOCK_ELEMENTS || position - BLOCK_HEADER_BYTES >= BLOCK_TARGET_BYTES) {
+            flushBlock();
+        }
+    }
+    
+    // Write the last partial block and the end block
+    void finish() throws IOException {
+        if (count > 0) {
+            flushBlock();
+        }
+        flushBlock();
+    }
+    
+    // Fill in the block's count, length and checksum and write it out
+    private void flushBlock() throws IOException {
+        int length = position - BLOCK_HEADER_BYTES;
+        if (length > MAX_BLOCK_BYTES) {
+            throw new IOException("Snapshot block too large: " + length + " bytes");
+        }
+        
+        ByteBuffer buffer = ByteBuffer.wrap(block).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(0, count).putInt(4, length);
+        checksum.reset();
+        checksum.update(block, 0, position);
+        buffer.putInt(position, (int) checksum.getValue());
+        buffer.limit(position + CHECKSUM_BYTES);
+        writeFully(buffer);
+        
+        position = BLOCK_HEADER_BYTES;
+        count = 0;
+        previous = 0;
+        previousLong = 0;
+    }
+    
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+    
+    // Make room for bytes more payload bytes plus the checksum
+    private void ensureRoom(int bytes) {
+        int needed = position + bytes + CHECKSUM_BYTES;
+        if (needed > block.length) {
+            block = Arrays.copyOf(block, Math.max(needed, block.length * 2));
+        }
+    }
+    
+    // Lets an ElementCodec write straight into the current block
+    private class BlockOutput extends OutputStream {
+        
+        @Override
+        public void write(int b) {
+            ensureRoom(1);
+            block[position++] = (byte) b;
+        }
+        
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            ensureRoom(length);
+            System.arraycopy(bytes, offset, block, position, length);
+            position += length;
+        }
+    }
+}
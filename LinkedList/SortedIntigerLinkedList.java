@@ -0,0 +1,545 @@
+package LinkedList;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Linked list of ints that is always kept in ascending order. The nodes form an indexable
+// skip list: besides its next pointer on the list itself (level 0), a node may reach up into
+// express levels, and every forward link stores how many elements it passes ("width") and
+// their sum. A search therefore skips most of the list, and so do the range queries:
+// rangeCount(lo, hi) and rangeSum(lo, hi) add up the widths and sums of the links they take
+// instead of visiting the elements in the range. Values stay in int fields and the counters
+// in int[] and long[] arrays, so nothing is ever boxed.
+//
+// Expected costs: insertSorted, deleteByValue, search, contains, get, floor, ceiling,
+// rangeCount and rangeSum are O(log n); getFirst, getLast and sum are O(1).
+public class SortedIntigerLinkedList {
+    
+    // Default chance that a node reaches one more level up
+    public static final double DEFAULT_PROMOTION_PROBABILITY = 0.25;
+    
+    // Maximum number of levels, including the list itself
+    private static final int MAX_LEVEL = 32;
+    
+    // Node class: one element and its links on every level it reaches
+    private static class Node {
+        final int data;
+        final Node[] next;   // next node on each level (null at the end)
+        final int[] width;   // elements each link passes, the node it lands on included
+        final long[] sum;    // sum of those elements
+        Node prev;           // previous node on the list itself (null for the first node)
+        
+        Node(int data, int height) {
+            this.data = data;
+            this.next = new Node[height];
+            this.width = new int[height];
+            this.sum = new long[height];
+        }
+    }
+    
+    private final Node head;   // sentinel in front of the first node, as tall as MAX_LEVEL
+    private Node tail;
+    private int size;
+    private long total;
+    private int levels;        // levels in use; the list itself always counts as one
+    private int modCount;
+    private final double promotionProbability;
+    
+    // Reused by insertSorted and deleteByValue: the last node before the change on each
+    // level, with its position and the sum of the elements up to and including it
+    private final Node[] update = new Node[MAX_LEVEL];
+    private final int[] updatePositions = new int[MAX_LEVEL];
+    private final long[] updateSums = new long[MAX_LEVEL];
+    
+    // Constructor
+    public SortedIntigerLinkedList() {
+        this(DEFAULT_PROMOTION_PROBABILITY);
+    }
+    
+    // promotionProbability trades memory for speed, as in enableSkipListIndex(p): lower values
+    // give fewer express links but leave about 1 / p steps per level
+    public SortedIntigerLinkedList(double promotionProbability) {
+        if (!(promotionProbability > 0.0 && promotionProbability < 1.0)) {
+            throw new IllegalArgumentException("Promotion probability must be in (0, 1): " + promotionProbability);
+        }
+        this.promotionProbability = promotionProbability;
+        this.head = new Node(0, MAX_LEVEL);
+        this.tail = null;
+        this.size = 0;
+        this.total = 0;
+        this.levels = 1;
+    }
+    
+    // Insert a value at its sorted position (after any equal values already in the list)
+    public void insertSorted(int data) {
+        int height = randomHeight();
+        if (height > levels) {
+            // A new level starts as one link from head past every element
+            for (int level = levels; level < height; level++) {
+                head.next[level] = null;
+                head.width[level] = size;
+                head.sum[level] = total;
+            }
+            levels = height;
+        }
+        
+        Node node = head;
+        int position = 0;
+        long prefix = 0;
+        for (int level = levels - 1; level >= 0; level--) {
+            Node next;
+            while ((next = node.next[level]) != null && next.data <= data) {
+                position += node.width[level];
+                prefix += node.sum[level];
+                node = next;
+            }
+            update[level] = node;
+            updatePositions[level] = position;
+            updateSums[level] = prefix;
+        }
+        
+        // position and prefix now describe the elements in front of the new node
+        Node created = new Node(data, height);
+        for (int level = 0; level < levels; level++) {
+            Node before = update[level];
+            if (level < height) {
+                int gap = position - updatePositions[level];
+                long gapSum = prefix - updateSums[level];
+                created.next[level] = before.next[level];
+                created.width[level] = before.width[level] - gap;
+                created.sum[level] = before.sum[level] - gapSum;
+                before.next[level] = created;
+                before.width[level] = gap + 1;
+                before.sum[level] = gapSum + data;
+            } else {
+                before.width[level]++;
+                before.sum[level] += data;
+            }
+        }
+        
+        created.prev = update[0] == head ? null : update[0];
+        if (created.next[0] != null) {
+            created.next[0].prev = created;
+        } else {
+            tail = created;
+        }
+        
+        size++;
+        total += data;
+        modCount++;
+    }
+    
+    // Delete the first occurrence of a value; returns false when it is not in the list
+    public boolean deleteByValue(int data) {
+        Node node = head;
+        for (int level = levels - 1; level >= 0; level--) {
+            Node next;
+            while ((next = node.next[level]) != null && next.data < data) {
+                node = next;
+            }
+            update[level] = node;
+        }
+        
+        Node target = node.next[0];
+        if (target == null || target.data != data) {
+            return false;
+        }
+        
+        for (int level = 0; level < levels; level++) {
+            Node before = update[level];
+            if (before.next[level] == target) {
+                before.next[level] = target.next[level];
+                before.width[level] += target.width[level] - 1;
+                before.sum[level] += target.sum[level] - data;
+            } else {
+                before.width[level]--;
+                before.sum[level] -= data;
+            }
+        }
+        
+        if (target.next[0] != null) {
+            target.next[0].prev = target.prev;
+        } else {
+            tail = target.prev;
+        }
+        while (levels > 1 && head.next[levels - 1] == null) {
+            levels--;
+        }
+        
+        size--;
+        total -= data;
+        modCount++;
+        return true;
+    }
+    
+    // Delete and return the smallest value
+    public int deleteFromHead() {
+        int data = getFirst();
+        deleteByValue(data);
+        return data;
+    }
+    
+    // Delete and return the largest value
+    public int deleteFromTail() {
+        int data = getLast();
+        deleteByValue(data);
+        return data;
+    }
+    
+    // Index of the first occurrence of a value, or -1 when it is not in the list
+    public int search(int data) {
+        Node node = head;
+        int position = 0;
+        for (int level = levels - 1; level >= 0; level--) {
+            Node next;
+            while ((next = node.next[level]) != null && next.data < data) {
+                position += node.width[level];
+                node = next;
+            }
+        }
+        
+        Node next = node.next[0];
+        return next != null && next.data == data ? position : -1;
+    }
+    
+    // Check if a value is in the list
+    public boolean contains(int data) {
+        return search(data) != -1;
+    }
+    
+    // Count occurrences of a value
+    public int countOccurrences(int data) {
+        return rangeCount(data, data);
+    }
+    
+    // Get the element at an index (index 0 is the smallest)
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        Node node = head;
+        int position = 0;
+        for (int level = levels - 1; level >= 0; level--) {
+            Node next;
+            while ((next = node.next[level]) != null && position + node.width[level] <= index + 1) {
+                position += node.width[level];
+                node = next;
+            }
+        }
+        return node.data;
+    }
+    
+    // Number of elements with lo <= value <= hi
+    public int rangeCount(int lo, int hi) {
+        if (lo > hi) {
+            return 0;
+        }
+        return (int) (walkUpTo(hi, true, false) - walkUpTo(lo, false, false));
+    }
+    
+    // Sum of the elements with lo <= value <= hi
+    public long rangeSum(int lo, int hi) {
+        if (lo > hi) {
+            return 0;
+        }
+        return walkUpTo(hi, true, true) - walkUpTo(lo, false, true);
+    }
+    
+    // Largest element <= value, if there is one
+    public OptionalInt floor(int value) {
+        Node node = lastAtMost(value);
+        return node == head ? OptionalInt.empty() : OptionalInt.of(node.data);
+    }
+    
+    // Smallest element >= value, if there is one
+    public OptionalInt ceiling(int value) {
+        Node node = lastBelow(value).next[0];
+        return node == null ? OptionalInt.empty() : OptionalInt.of(node.data);
+    }
+    
+    // Elements with lo <= value <= hi in ascending order, starting from ceiling(lo)
+    public PrimitiveIterator.OfInt rangeIterator(int lo, int hi) {
+        Node first = lo > hi ? null : lastBelow(lo).next[0];
+        return new RangeIterator(first, lo, hi, true);
+    }
+    
+    // Elements with lo <= value <= hi in descending order, starting from floor(hi)
+    public PrimitiveIterator.OfInt descendingRangeIterator(int lo, int hi) {
+        Node last = lo > hi ? head : lastAtMost(hi);
+        return new RangeIterator(last == head ? null : last, lo, hi, false);
+    }
+    
+    // All elements in ascending order
+    public PrimitiveIterator.OfInt iterator() {
+        return new RangeIterator(head.next[0], Integer.MIN_VALUE, Integer.MAX_VALUE, true);
+    }
+    
+    // Get the smallest element
+    public int getFirst() {
+        if (size == 0) {
+            throw new RuntimeException("List is empty");
+        }
+        return head.next[0].data;
+    }
+    
+    // Get the largest element
+    public int getLast() {
+        if (size == 0) {
+            throw new RuntimeException("List is empty");
+        }
+        return tail.data;
+    }
+    
+    // Find minimum value (the first element, so O(1))
+    public int findMin() {
+        return getFirst();
+    }
+    
+    // Find maximum value (the last element, so O(1))
+    public int findMax() {
+        return getLast();
+    }
+    
+    // Sum of all elements, kept up to date by every insert and delete
+    public long sum() {
+        return total;
+    }
+    
+    // Calculate average of all elements
+    public double average() {
+        if (size == 0) {
+            throw new RuntimeException("List is empty");
+        }
+        return (double) total / size;
+    }
+    
+    // Get the size of the list
+    public int size() {
+        return size;
+    }
+    
+    // Check if list is empty
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    // Clear the entire list
+    public void clear() {
+        Arrays.fill(head.next, null);
+        Arrays.fill(head.width, 0);
+        Arrays.fill(head.sum, 0);
+        tail = null;
+        size = 0;
+        total = 0;
+        levels = 1;
+        modCount++;
+    }
+    
+    // Convert to array, in ascending order
+    public int[] toArray() {
+        int[] array = new int[size];
+        int index = 0;
+        for (Node node = head.next[0]; node != null; node = node.next[0]) {
+            array[index++] = node.data;
+        }
+        return array;
+    }
+    
+    // Last node (or head) whose value is < value
+    private Node lastBelow(int value) {
+        Node node = head;
+        for (int level = levels - 1; level >= 0; level--) {
+            Node next;
+            while ((next = node.next[level]) != null && next.data < value) {
+                node = next;
+            }
+        }
+        return node;
+    }
+    
+    // Last node (or head) whose value is <= value
+    private Node lastAtMost(int value) {
+        Node node = head;
+        for (int level = levels - 1; level >= 0; level--) {
+            Node next;
+            while ((next = node.next[level]) != null && next.data <= value) {
+                node = next;
+            }
+        }
+        return node;
+    }
+    
+    // Count (or, with sums, the sum) of the elements < value, or <= value when inclusive,
+    // taken from the links on the way down instead of from the elements themselves
+    private long walkUpTo(int value, boolean inclusive, boolean sums) {
+        Node node = head;
+        long result = 0;
+        for (int level = levels - 1; level >= 0; level--) {
+            Node next;
+            while ((next = node.next[level]) != null && (next.data < value || (inclusive && next.data == value))) {
+                result += sums ? node.sum[level] : node.width[level];
+                node = next;
+            }
+        }
+        return result;
+    }
+    
+    private int randomHeight() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int height = 1;
+        while (height < MAX_LEVEL && random.nextDouble() < promotionProbability) {
+            height++;
+        }
+        return height;
+    }
+    
+    // Walks the list itself from one node towards the tail (or the head) while the values
+    // stay inside [lo, hi]
+    private class RangeIterator implements PrimitiveIterator.OfInt {
+        private Node next;
+        private final int lo;
+        private final int hi;
+        private final boolean ascending;
+        private final int expectedModCount = modCount;
+        
+        RangeIterator(Node first, int lo, int hi, boolean ascending) {
+            this.lo = lo;
+            this.hi = hi;
+            this.ascending = ascending;
+            this.next = inRange(first) ? first : null;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+        
+        @Override
+        public int nextInt() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            
+            int data = next.data;
+            Node following = ascending ? next.next[0] : next.prev;
+            next = inRange(following) ? following : null;
+            return data;
+        }
+        
+        private boolean inRange(Node node) {
+            return node != null && node.data >= lo && node.data <= hi;
+        }
+    }
+    
+    // Display the list
+    public void display() {
+        if (size == 0) {
+            System.out.println("List is empty");
+            return;
+        }
+        
+        System.out.print("SortedIntLinkedList: ");
+        for (Node node = head.next[0]; node != null; node = node.next[0]) {
+            System.out.print(node.data);
+            if (node.next[0] != null) {
+                System.out.print(" -> ");
+            }
+        }
+        System.out.println(" -> null");
+    }
+    
+    // Override toString method
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+        
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (Node node = head.next[0]; node != null; node = node.next[0]) {
+            sb.append(node.data);
+            if (node.next[0] != null) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+    
+    // Main method for testing
+    public static void main(String[] args) {
+        SortedIntigerLinkedList list = new SortedIntigerLinkedList();
+        
+        // Test insertions (in any order; the list keeps them sorted)
+        int[] values = {30, 10, 50, 20, 40, 10, 35};
+        for (int value : values) {
+            list.insertSorted(value);
+        }
+        
+        System.out.println("After insertions: " + list);
+        System.out.println("Size: " + list.size());
+        list.display();
+        
+        // Test search and count
+        System.out.println("Search 35: " + list.search(35));
+        System.out.println("Contains 25: " + list.contains(25));
+        System.out.println("Count of 10: " + list.countOccurrences(10));
+        System.out.println("Element at index 4: " + list.get(4));
+        
+        // Test range queries
+        System.out.println("Count in [15, 40]: " + list.rangeCount(15, 40));
+        System.out.println("Sum in [15, 40]: " + list.rangeSum(15, 40));
+        System.out.println("Floor of 33: " + list.floor(33));
+        System.out.println("Ceiling of 33: " + list.ceiling(33));
+        System.out.println("Floor of 5: " + list.floor(5));
+        
+        // Test range iterators
+        System.out.print("Ascending [15, 40]:");
+        for (PrimitiveIterator.OfInt it = list.rangeIterator(15, 40); it.hasNext(); ) {
+            System.out.print(" " + it.nextInt());
+        }
+        System.out.println();
+        System.out.print("Descending [15, 40]:");
+        for (PrimitiveIterator.OfInt it = list.descendingRangeIterator(15, 40); it.hasNext(); ) {
+            System.out.print(" " + it.nextInt());
+        }
+        System.out.println();
+        
+        // Test mathematical operations
+        System.out.println("Sum: " + list.sum());
+        System.out.println("Average: " + list.average());
+        System.out.println("Min: " + list.findMin());
+        System.out.println("Max: " + list.findMax());
+        
+        // Test range queries on a larger list
+        SortedIntigerLinkedList large = new SortedIntigerLinkedList();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 1_000_000; i++) {
+            large.insertSorted(random.nextInt(1_000_000));
+        }
+        System.out.println("Large count in [1000, 2000]: " + large.rangeCount(1000, 2000));
+        System.out.println("Large sum in [1000, 2000]: " + large.rangeSum(1000, 2000));
+        
+        // Test deletions
+        System.out.println("Delete 20: " + list.deleteByValue(20));
+        System.out.println("Delete 25: " + list.deleteByValue(25));
+        System.out.println("Deleted from head: " + list.deleteFromHead());
+        System.out.println("Deleted from tail: " + list.deleteFromTail());
+        System.out.println("After deletions: " + list);
+        
+        // Test array conversion
+        System.out.println("As array: " + Arrays.toString(list.toArray()));
+        
+        // Display final state
+        list.display();
+    }
+}
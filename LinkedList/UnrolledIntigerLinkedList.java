@@ -0,0 +1,772 @@
+package LinkedList;
+
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Unrolled linked list of ints: each node stores a chunk of values in an int[]
+// instead of a single value, so scans touch contiguous memory and the
+// per-element overhead of a Node object disappears.
+public class UnrolledIntigerLinkedList {
+    
+    // Default number of ints stored in each chunk
+    public static final int DEFAULT_CHUNK_CAPACITY = 64;
+    
+    // The parallel aggregates give each task at least this many elements
+    private static final int PARALLEL_AGGREGATE_THRESHOLD = 1 << 14;
+    
+    // Chunk class to represent a block of consecutive elements
+    private static class Chunk {
+        int[] values;
+        int count;
+        Chunk next;
+        Chunk prev;
+        
+        Chunk(int capacity) {
+            this.values = new int[capacity];
+            this.count = 0;
+            this.next = null;
+            this.prev = null;
+        }
+    }
+    
+    private Chunk head;
+    private Chunk tail;
+    private int size;
+    private final int chunkCapacity;
+    
+    // Position of an element: the chunk holding it and the offset inside that chunk
+    private Chunk foundChunk;
+    private int foundOffset;
+    
+    // Constructor
+    public UnrolledIntigerLinkedList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+    
+    // Constructor with a custom chunk capacity
+    public UnrolledIntigerLinkedList(int chunkCapacity) {
+        if (chunkCapacity < 2) {
+            throw new IllegalArgumentException("Chunk capacity must be at least 2: " + chunkCapacity);
+        }
+        this.chunkCapacity = chunkCapacity;
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+    }
+    
+    // Insert at the beginning of the list
+    public void insertAtHead(int data) {
+        if (head == null || head.count == chunkCapacity) {
+            linkBefore(head, new Chunk(chunkCapacity));
+        }
+        
+        int[] values = head.values;
+        System.arraycopy(values, 0, values, 1, head.count);
+        values[0] = data;
+        head.count++;
+        size++;
+    }
+    
+    // Insert at the end of the list
+    public void insertAtTail(int data) {
+        // Appends start a fresh chunk instead of splitting, so bulk loads fill chunks completely
+        if (tail == null || tail.count == chunkCapacity) {
+            linkAfter(tail, new Chunk(chunkCapacity));
+        }
+        
+        tail.values[tail.count++] = data;
+        size++;
+    }
+    
+    // Insert at specific index
+    public void insertAtIndex(int index, int data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        if (index == 0) {
+            insertAtHead(data);
+            return;
+        }
+        
+        if (index == size) {
+            insertAtTail(data);
+            return;
+        }
+        
+        locate(index);
+        Chunk chunk = foundChunk;
+        int offset = foundOffset;
+        
+        if (chunk.count == chunkCapacity) {
+            split(chunk);
+            if (offset > chunk.count) {
+                offset -= chunk.count;
+                chunk = chunk.next;
+            }
+        }
+        
+        int[] values = chunk.values;
+        System.arraycopy(values, offset, values, offset + 1, chunk.count - offset);
+        values[offset] = data;
+        chunk.count++;
+        size++;
+    }
+    
+    // Delete from the beginning
+    public int deleteFromHead() {
+        if (head == null) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        return removeAt(head, 0);
+    }
+    
+    // Delete from the end
+    public int deleteFromTail() {
+        if (tail == null) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        return removeAt(tail, tail.count - 1);
+    }
+    
+    // Delete from specific index
+    public int deleteAtIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        locate(index);
+        return removeAt(foundChunk, foundOffset);
+    }
+    
+    // Delete by value (first occurrence)
+    public boolean deleteByValue(int value) {
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            int[] values = chunk.values;
+            for (int i = 0; i < chunk.count; i++) {
+                if (values[i] == value) {
+                    removeAt(chunk, i);
+                    return true;
+                }
+            }
+        }
+        
+        return false;
+    }
+    
+    // Search for a value and return its index
+    public int search(int value) {
+        int base = 0;
+        
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            int[] values = chunk.values;
+            for (int i = 0; i < chunk.count; i++) {
+                if (values[i] == value) {
+                    return base + i;
+                }
+            }
+            base += chunk.count;
+        }
+        
+        return -1; // Not found
+    }
+    
+    // Get element at specific index
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        locate(index);
+        return foundChunk.values[foundOffset];
+    }
+    
+    // Update element at specific index
+    public void set(int index, int data) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        locate(index);
+        foundChunk.values[foundOffset] = data;
+    }
+    
+    // Check if list contains a value
+    public boolean contains(int value) {
+        return search(value) != -1;
+    }
+    
+    // Count occurrences of a value
+    public int countOccurrences(int value) {
+        int count = 0;
+        
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            int[] values = chunk.values;
+            for (int i = 0; i < chunk.count; i++) {
+                if (values[i] == value) {
+                    count++;
+                }
+            }
+        }
+        
+        return count;
+    }
+    
+    // Get the size of the list
+    public int size() {
+        return size;
+    }
+    
+    // Check if list is empty
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    // Clear the entire list
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+    
+    // Reverse the list: reverse the chunk order, then each chunk in place
+    public void reverse() {
+        Chunk current = head;
+        
+        while (current != null) {
+            Chunk next = current.next;
+            current.next = current.prev;
+            current.prev = next;
+            
+            int[] values = current.values;
+            for (int i = 0, j = current.count - 1; i < j; i++, j--) {
+                int temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+            }
+            current = next;
+        }
+        
+        Chunk oldHead = head;
+        head = tail;
+        tail = oldHead;
+    }
+    
+    // Get the first element
+    public int getFirst() {
+        if (head == null) {
+            throw new RuntimeException("List is empty");
+        }
+        return head.values[0];
+    }
+    
+    // Get the last element
+    public int getLast() {
+        if (tail == null) {
+            throw new RuntimeException("List is empty");
+        }
+        return tail.values[tail.count - 1];
+    }
+    
+    // Find minimum value
+    public int findMin() {
+        if (head == null) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        int min = head.values[0];
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            int[] values = chunk.values;
+            for (int i = 0; i < chunk.count; i++) {
+                min = Math.min(min, values[i]);
+            }
+        }
+        
+        return min;
+    }
+    
+    // Find maximum value
+    public int findMax() {
+        if (head == null) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        int max = head.values[0];
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            int[] values = chunk.values;
+            for (int i = 0; i < chunk.count; i++) {
+                max = Math.max(max, values[i]);
+            }
+        }
+        
+        return max;
+    }
+    
+    // Calculate sum of all elements
+    public int sum() {
+        int sum = 0;
+        
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            int[] values = chunk.values;
+            for (int i = 0; i < chunk.count; i++) {
+                sum += values[i];
+            }
+        }
+        
+        return sum;
+    }
+    
+    // Calculate average of all elements (summed as long, so large lists cannot overflow)
+    public double average() {
+        if (size == 0) {
+            throw new RuntimeException("List is empty");
+        }
+        
+        return summaryStatistics().getAverage();
+    }
+    
+    // Count, sum (as long), min, max and average in a single pass
+    public IntSummaryStatistics summaryStatistics() {
+        return statisticsOf(head, null);
+    }
+    
+    // summaryStatistics() computed by several threads, each over a run of whole chunks
+    public IntSummaryStatistics parallelSummaryStatistics() {
+        if (size < 2 * PARALLEL_AGGREGATE_THRESHOLD) {
+            return summaryStatistics();
+        }
+        
+        Chunk[] chunks = chunkArray();
+        int pieces = pieceCount(chunks.length);
+        return IntStream.range(0, pieces)
+                .parallel()
+                .mapToObj(piece -> statisticsOf(pieceFirst(chunks, piece, pieces), pieceFirst(chunks, piece + 1, pieces)))
+                .collect(IntSummaryStatistics::new, IntSummaryStatistics::combine, IntSummaryStatistics::combine);
+    }
+    
+    // countOccurrences() computed by several threads, each over a run of whole chunks
+    public int parallelCountOccurrences(int value) {
+        if (size < 2 * PARALLEL_AGGREGATE_THRESHOLD) {
+            return countOccurrences(value);
+        }
+        
+        Chunk[] chunks = chunkArray();
+        int pieces = pieceCount(chunks.length);
+        return IntStream.range(0, pieces)
+                .parallel()
+                .map(piece -> countOf(pieceFirst(chunks, piece, pieces), pieceFirst(chunks, piece + 1, pieces), value))
+                .sum();
+    }
+    
+    // Convert to array
+    public int[] toArray() {
+        int[] array = new int[size];
+        int index = 0;
+        
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            System.arraycopy(chunk.values, 0, array, index, chunk.count);
+            index += chunk.count;
+        }
+        
+        return array;
+    }
+    
+    // Sort the list: sort a flat copy, then write it back into the existing chunks
+    public void sort() {
+        if (size < 2) {
+            return;
+        }
+        
+        int[] sorted = toArray();
+        Arrays.sort(sorted);
+        
+        int index = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            System.arraycopy(sorted, index, chunk.values, 0, chunk.count);
+            index += chunk.count;
+        }
+    }
+    
+    // Remove duplicates (adjacent equal values, like IntigerLinkedList)
+    public void removeDuplicates() {
+        if (head == null) {
+            return;
+        }
+        
+        boolean hasLast = false;
+        int last = 0;
+        Chunk chunk = head;
+        
+        while (chunk != null) {
+            Chunk next = chunk.next;
+            int[] values = chunk.values;
+            int kept = 0;
+            
+            for (int i = 0; i < chunk.count; i++) {
+                if (!hasLast || values[i] != last) {
+                    last = values[i];
+                    hasLast = true;
+                    values[kept++] = last;
+                }
+            }
+            
+            size -= chunk.count - kept;
+            chunk.count = kept;
+            if (kept == 0) {
+                unlinkChunk(chunk);
+            }
+            chunk = next;
+        }
+        rebalanceAll();
+    }
+    
+    // Display the list
+    public void display() {
+        if (head == null) {
+            System.out.println("List is empty");
+            return;
+        }
+        
+        System.out.print("UnrolledIntLinkedList: ");
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            System.out.print("[");
+            for (int i = 0; i < chunk.count; i++) {
+                System.out.print(chunk.values[i]);
+                if (i < chunk.count - 1) {
+                    System.out.print(", ");
+                }
+            }
+            System.out.print("]");
+            if (chunk.next != null) {
+                System.out.print(" <-> ");
+            }
+        }
+        System.out.println(" -> null");
+    }
+    
+    // Override toString method
+    @Override
+    public String toString() {
+        if (head == null) {
+            return "[]";
+        }
+        
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                sb.append(chunk.values[i]);
+                if (i < chunk.count - 1 || chunk.next != null) {
+                    sb.append(", ");
+                }
+            }
+        }
+        
+        sb.append("]");
+        return sb.toString();
+    }
+    
+    // Statistics of the chunks from first up to (not including) end. The inner loop runs over
+    // a plain int[] with no calls or branches, so the JIT can unroll and vectorize it.
+    private static IntSummaryStatistics statisticsOf(Chunk first, Chunk end) {
+        long count = 0;
+        long sum = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        
+        for (Chunk chunk = first; chunk != end; chunk = chunk.next) {
+            int[] values = chunk.values;
+            int n = chunk.count;
+            for (int i = 0; i < n; i++) {
+                int value = values[i];
+                sum += value;
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            count += n;
+        }
+        
+        return (count == 0) ? new IntSummaryStatistics() : new IntSummaryStatistics(count, min, max, sum);
+    }
+    
+    // Occurrences of value in the chunks from first up to (not including) end
+    private static int countOf(Chunk first, Chunk end, int value) {
+        int count = 0;
+        for (Chunk chunk = first; chunk != end; chunk = chunk.next) {
+            int[] values = chunk.values;
+            int n = chunk.count;
+            for (int i = 0; i < n; i++) {
+                count += (values[i] == value) ? 1 : 0;
+            }
+        }
+        return count;
+    }
+    
+    // All chunks in order; one hop per chunk, so this is cheap next to the aggregate itself
+    private Chunk[] chunkArray() {
+        int count = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            count++;
+        }
+        
+        Chunk[] chunks = new Chunk[count];
+        int index = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            chunks[index++] = chunk;
+        }
+        return chunks;
+    }
+    
+    // Number of parallel pieces for a list of chunkCount chunks
+    private int pieceCount(int chunkCount) {
+        int pieces = Math.min(4 * ForkJoinPool.getCommonPoolParallelism(), size / PARALLEL_AGGREGATE_THRESHOLD);
+        return Math.max(1, Math.min(pieces, chunkCount));
+    }
+    
+    // First chunk of a piece (null past the last piece)
+    private static Chunk pieceFirst(Chunk[] chunks, int piece, int pieces) {
+        int index = (int) ((long) piece * chunks.length / pieces);
+        return (index < chunks.length) ? chunks[index] : null;
+    }
+    
+    // Find the chunk and offset of index, walking chunks from the closer end
+    private void locate(int index) {
+        if (index < (size >> 1)) {
+            Chunk chunk = head;
+            while (index >= chunk.count) {
+                index -= chunk.count;
+                chunk = chunk.next;
+            }
+            foundChunk = chunk;
+            foundOffset = index;
+            return;
+        }
+        
+        Chunk chunk = tail;
+        int remaining = size - 1 - index;
+        while (remaining >= chunk.count) {
+            remaining -= chunk.count;
+            chunk = chunk.prev;
+        }
+        foundChunk = chunk;
+        foundOffset = chunk.count - 1 - remaining;
+    }
+    
+    // Remove the value at offset inside chunk, rebalancing it if it falls below a quarter full
+    private int removeAt(Chunk chunk, int offset) {
+        int[] values = chunk.values;
+        int data = values[offset];
+        
+        System.arraycopy(values, offset + 1, values, offset, chunk.count - offset - 1);
+        chunk.count--;
+        size--;
+        
+        if (chunk.count == 0) {
+            unlinkChunk(chunk);
+        } else {
+            rebalance(chunk);
+        }
+        return data;
+    }
+    
+    // Move the upper half of a full chunk into a new chunk right after it
+    private void split(Chunk chunk) {
+        Chunk upper = new Chunk(chunkCapacity);
+        int half = chunk.count >> 1;
+        
+        upper.count = chunk.count - half;
+        System.arraycopy(chunk.values, half, upper.values, 0, upper.count);
+        chunk.count = half;
+        linkAfter(chunk, upper);
+    }
+    
+    // Keep every chunk of a list with more than one chunk at least a quarter full, so the
+    // memory saving over one node per element survives deletes. An underfull chunk takes in
+    // the next chunk, or moves into the previous one, when the two fit in one chunk;
+    // otherwise it takes values from the fuller neighbour until both hold about the same
+    // (both then hold more than a quarter). Returns the chunk now holding chunk's values.
+    private Chunk rebalance(Chunk chunk) {
+        if (chunk.count >= (chunkCapacity >> 2)) {
+            return chunk;
+        }
+        
+        Chunk next = chunk.next;
+        Chunk prev = chunk.prev;
+        if (next != null && chunk.count + next.count <= chunkCapacity) {
+            System.arraycopy(next.values, 0, chunk.values, chunk.count, next.count);
+            chunk.count += next.count;
+            unlinkChunk(next);
+            return chunk;
+        }
+        if (prev != null && prev.count + chunk.count <= chunkCapacity) {
+            System.arraycopy(chunk.values, 0, prev.values, prev.count, chunk.count);
+            prev.count += chunk.count;
+            unlinkChunk(chunk);
+            return prev;
+        }
+        
+        if (next != null && (prev == null || next.count >= prev.count)) {
+            // Move the first values of next to the end of chunk
+            int moved = (next.count - chunk.count) >> 1;
+            System.arraycopy(next.values, 0, chunk.values, chunk.count, moved);
+            System.arraycopy(next.values, moved, next.values, 0, next.count - moved);
+            chunk.count += moved;
+            next.count -= moved;
+        } else if (prev != null) {
+            // Move the last values of prev to the front of chunk
+            int moved = (prev.count - chunk.count) >> 1;
+            System.arraycopy(chunk.values, 0, chunk.values, moved, chunk.count);
+            System.arraycopy(prev.values, prev.count - moved, chunk.values, 0, moved);
+            chunk.count += moved;
+            prev.count -= moved;
+        }
+        return chunk;
+    }
+    
+    // Rebalance every chunk after a bulk removal, in one pass from head: each step leaves
+    // the chunks before the current one at least a quarter full
+    private void rebalanceAll() {
+        Chunk chunk = head;
+        while (chunk != null) {
+            chunk = rebalance(chunk).next;
+        }
+    }
+    
+    // Link a chunk in front of successor (or as the only chunk)
+    private void linkBefore(Chunk successor, Chunk chunk) {
+        if (successor == null) {
+            head = chunk;
+            tail = chunk;
+            return;
+        }
+        
+        chunk.next = successor;
+        chunk.prev = successor.prev;
+        if (successor.prev == null) {
+            head = chunk;
+        } else {
+            successor.prev.next = chunk;
+        }
+        successor.prev = chunk;
+    }
+    
+    // Link a chunk after predecessor (or as the only chunk)
+    private void linkAfter(Chunk predecessor, Chunk chunk) {
+        if (predecessor == null) {
+            head = chunk;
+            tail = chunk;
+            return;
+        }
+        
+        chunk.prev = predecessor;
+        chunk.next = predecessor.next;
+        if (predecessor.next == null) {
+            tail = chunk;
+        } else {
+            predecessor.next.prev = chunk;
+        }
+        predecessor.next = chunk;
+    }
+    
+    // Remove a chunk from the chain
+    private void unlinkChunk(Chunk chunk) {
+        if (chunk.prev == null) {
+            head = chunk.next;
+        } else {
+            chunk.prev.next = chunk.next;
+        }
+        
+        if (chunk.next == null) {
+            tail = chunk.prev;
+        } else {
+            chunk.next.prev = chunk.prev;
+        }
+        
+        chunk.next = null;
+        chunk.prev = null;
+    }
+    
+    // Main method for testing
+    public static void main(String[] args) {
+        UnrolledIntigerLinkedList list = new UnrolledIntigerLinkedList(4);
+        
+        // Test insertions
+        list.insertAtHead(10);
+        list.insertAtHead(5);
+        list.insertAtTail(20);
+        list.insertAtTail(30);
+        list.insertAtIndex(2, 15);
+        list.insertAtTail(5); // Duplicate for testing
+        
+        System.out.println("After insertions: " + list);
+        System.out.println("Size: " + list.size());
+        list.display();
+        
+        // Test mathematical operations
+        System.out.println("Sum: " + list.sum());
+        System.out.println("Average: " + list.average());
+        System.out.println("Min: " + list.findMin());
+        System.out.println("Max: " + list.findMax());
+        System.out.println("Summary: " + list.summaryStatistics());
+        
+        // Test search and count
+        System.out.println("Search 15: " + list.search(15));
+        System.out.println("Contains 25: " + list.contains(25));
+        System.out.println("Count of 5: " + list.countOccurrences(5));
+        
+        // Test get/set
+        System.out.println("Element at index 2: " + list.get(2));
+        list.set(2, 25);
+        System.out.println("After setting index 2 to 25: " + list);
+        
+        // Test sorting
+        list.sort();
+        System.out.println("After sorting: " + list);
+        
+        // Test parallel aggregates on a larger list
+        UnrolledIntigerLinkedList large = new UnrolledIntigerLinkedList();
+        for (int i = 0; i < 1_000_000; i++) {
+            large.insertAtTail(i % 1000);
+        }
+        System.out.println("Parallel summary: " + large.parallelSummaryStatistics());
+        System.out.println("Parallel count of 7: " + large.parallelCountOccurrences(7));
+        
+        // Test chunk rebalancing: thin out the second and the last chunk; each one merges
+        // with or borrows from a neighbour instead of staying nearly empty
+        UnrolledIntigerLinkedList thinned = new UnrolledIntigerLinkedList(8);
+        for (int i = 0; i < 32; i++) {
+            thinned.insertAtTail(i);
+        }
+        for (int i = 9; i < 16; i++) {
+            thinned.deleteByValue(i);
+        }
+        for (int i = 25; i < 32; i++) {
+            thinned.deleteByValue(i);
+        }
+        thinned.display();
+        
+        // Test remove duplicates
+        list.removeDuplicates();
+        System.out.println("After removing duplicates: " + list);
+        
+        // Test deletions
+        System.out.println("Deleted from head: " + list.deleteFromHead());
+        System.out.println("Deleted from tail: " + list.deleteFromTail());
+        System.out.println("After deletions: " + list);
+        
+        // Test reverse
+        list.reverse();
+        System.out.println("After reverse: " + list);
+        
+        // Test array conversion
+        System.out.println("As array: " + Arrays.toString(list.toArray()));
+        
+        // Display final state
+        list.display();
+    }
+}
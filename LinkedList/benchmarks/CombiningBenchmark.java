@@ -0,0 +1,156 @@
+package LinkedList.benchmarks;
+
+import LinkedList.FlatCombiningLinkedList;
+import LinkedList.GenericLinkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Many threads changing one GenericLinkedList: each invocation inserts an element and
+// deletes it by value again, so the list stays small and every operation is O(1) (all
+// elements are equal, so the first match is near the head). Change the thread count with
+// -t, for example -t 64 (default 16).
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class CombiningBenchmark {
+    
+    static final String FLAT_COMBINING = "FlatCombiningLinkedList";
+    static final String SYNCHRONIZED = "synchronized GenericLinkedList";
+    static final String REENTRANT_LOCK = "ReentrantLock GenericLinkedList";
+    
+    private static final Integer ELEMENT = 42;
+    
+    @Param({FLAT_COMBINING, SYNCHRONIZED, REENTRANT_LOCK})
+    public String impl;
+    
+    private SharedList list;
+    
+    @Setup
+    public void setUp() {
+        switch (impl) {
+            case FLAT_COMBINING:
+                list = new FlatCombining();
+                break;
+            case SYNCHRONIZED:
+                list = new Synchronized();
+                break;
+            case REENTRANT_LOCK:
+                list = new Locked();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown list implementation: " + impl);
+        }
+    }
+    
+    // Counts as one operation per insert + delete pair
+    @Benchmark
+    public boolean headInsertThenDelete() {
+        list.insertAtHead(ELEMENT);
+        return list.deleteByValue(ELEMENT);
+    }
+    
+    @Benchmark
+    public boolean tailInsertThenDelete() {
+        list.insertAtTail(ELEMENT);
+        return list.deleteByValue(ELEMENT);
+    }
+    
+    private interface SharedList {
+        void insertAtHead(Integer value);
+        
+        void insertAtTail(Integer value);
+        
+        boolean deleteByValue(Integer value);
+    }
+    
+    private static class FlatCombining implements SharedList {
+        private final FlatCombiningLinkedList<Integer> list = new FlatCombiningLinkedList<>();
+        
+        @Override
+        public void insertAtHead(Integer value) {
+            list.insertAtHead(value);
+        }
+        
+        @Override
+        public void insertAtTail(Integer value) {
+            list.insertAtTail(value);
+        }
+        
+        @Override
+        public boolean deleteByValue(Integer value) {
+            return list.deleteByValue(value);
+        }
+    }
+    
+    private static class Synchronized implements SharedList {
+        private final GenericLinkedList<Integer> list = new GenericLinkedList<>();
+        
+        @Override
+        public synchronized void insertAtHead(Integer value) {
+            list.insertAtHead(value);
+        }
+        
+        @Override
+        public synchronized void insertAtTail(Integer value) {
+            list.insertAtTail(value);
+        }
+        
+        @Override
+        public synchronized boolean deleteByValue(Integer value) {
+            return list.deleteByValue(value);
+        }
+    }
+    
+    private static class Locked implements SharedList {
+        private final GenericLinkedList<Integer> list = new GenericLinkedList<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        
+        @Override
+        public void insertAtHead(Integer value) {
+            lock.lock();
+            try {
+                list.insertAtHead(value);
+            } finally {
+                lock.unlock();
+            }
+        }
+        
+        @Override
+        public void insertAtTail(Integer value) {
+            lock.lock();
+            try {
+                list.insertAtTail(value);
+            } finally {
+                lock.unlock();
+            }
+        }
+        
+        @Override
+        public boolean deleteByValue(Integer value) {
+            lock.lock();
+            try {
+                return list.deleteByValue(value);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package LinkedList.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Single-operation costs on a list that already holds "size" elements (0 .. size-1, shuffled).
+// Operations that grow or shrink the list are paired with their inverse so the size stays fixed.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class LinkedListBenchmark {
+    
+    // Pre-drawn random indices and values, cycled through by the benchmarks
+    private static final int RANDOM_COUNT = 1 << 10;
+    
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+    
+    @Param({
+        ListAdapter.INTIGER,
+        ListAdapter.INTIGER_HASHED,
+        ListAdapter.INTIGER_POOLED,
+        ListAdapter.GENERIC,
+        ListAdapter.GENERIC_HASHED,
+        ListAdapter.GENERIC_POOLED,
+        ListAdapter.UNROLLED,
+        ListAdapter.OFF_HEAP,
+        ListAdapter.JDK_LINKED,
+        ListAdapter.JDK_ARRAY,
+        ListAdapter.JDK_DEQUE
+    })
+    public String impl;
+    
+    private ListAdapter list;
+    private int[] randomIndices;
+    private int[] randomValues;
+    private int cursor;
+    private int position;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        list = ListAdapter.create(impl);
+        list.fill(shuffledRange(size, random));
+        
+        randomIndices = new int[RANDOM_COUNT];
+        randomValues = new int[RANDOM_COUNT];
+        for (int i = 0; i < RANDOM_COUNT; i++) {
+            randomIndices[i] = random.nextInt(size);
+            // Half of the lookups miss: values are drawn from twice the stored range
+            randomValues[i] = random.nextInt(2 * size);
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        list.close();
+    }
+    
+    @Benchmark
+    public int headInsert() {
+        return list.headInsertDelete(nextValue());
+    }
+    
+    @Benchmark
+    public int tailInsert() {
+        return list.tailInsertDelete(nextValue());
+    }
+    
+    @Benchmark
+    public int indexedGet() {
+        return list.get(nextIndex());
+    }
+    
+    // get(0), get(1), get(2), ... one call per invocation, as legacy index loops do
+    @Benchmark
+    public int sequentialGet() {
+        if (++position == size) {
+            position = 0;
+        }
+        return list.get(position);
+    }
+    
+    @Benchmark
+    public boolean contains() {
+        return list.contains(nextValue());
+    }
+    
+    @Benchmark
+    public boolean deleteByValue() {
+        return list.deleteAndReinsert(nextIndex());
+    }
+    
+    @Benchmark
+    public void reverse() {
+        list.reverse();
+    }
+    
+    @Benchmark
+    public long sumMinMax() {
+        return list.sumMinMax();
+    }
+    
+    @Benchmark
+    public long summaryStatistics() {
+        return list.summaryStatistics(false);
+    }
+    
+    @Benchmark
+    public long parallelSummaryStatistics() {
+        return list.summaryStatistics(true);
+    }
+    
+    private int nextIndex() {
+        cursor = (cursor + 1) & (RANDOM_COUNT - 1);
+        return randomIndices[cursor];
+    }
+    
+    private int nextValue() {
+        cursor = (cursor + 1) & (RANDOM_COUNT - 1);
+        return randomValues[cursor];
+    }
+    
+    // The values 0 .. size-1 in random order
+    static int[] shuffledRange(int size, SplittableRandom random) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
+        }
+        return values;
+    }
+}
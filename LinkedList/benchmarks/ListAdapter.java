@@ -0,0 +1,554 @@
+package LinkedList.benchmarks;
+
+import LinkedList.GenericLinkedList;
+import LinkedList.IntigerLinkedList;
+import LinkedList.OffHeapIntigerLinkedList;
+import LinkedList.UnrolledIntigerLinkedList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IntSummaryStatistics;
+import java.util.Iterator;
+import java.util.List;
+
+// Gives every list implementation the same shape so one benchmark can drive them all.
+// Paired operations (insert + delete) keep the list at its starting size, so a
+// benchmark measures the same list size on every invocation.
+abstract class ListAdapter {
+    
+    // Names accepted by create(); also the values of the "impl" benchmark parameter
+    static final String INTIGER = "IntigerLinkedList";
+    static final String INTIGER_HASHED = "IntigerLinkedList+hashIndex";
+    static final String INTIGER_POOLED = "IntigerLinkedList+nodePool";
+    static final String GENERIC = "GenericLinkedList";
+    static final String GENERIC_HASHED = "GenericLinkedList+hashIndex";
+    static final String GENERIC_POOLED = "GenericLinkedList+nodePool";
+    static final String UNROLLED = "UnrolledIntigerLinkedList";
+    static final String OFF_HEAP = "OffHeapIntigerLinkedList";
+    static final String JDK_LINKED = "java.util.LinkedList";
+    static final String JDK_ARRAY = "java.util.ArrayList";
+    static final String JDK_DEQUE = "java.util.ArrayDeque";
+    
+    // Pool capacity for the +nodePool variants: plenty for one insert/delete pair at a time
+    private static final int POOL_CAPACITY = 1024;
+    
+    static ListAdapter create(String impl) {
+        switch (impl) {
+            case INTIGER:
+                return new Intiger(false, 0);
+            case INTIGER_HASHED:
+                return new Intiger(true, 0);
+            case INTIGER_POOLED:
+                return new Intiger(false, POOL_CAPACITY);
+            case GENERIC:
+                return new Generic(false, 0);
+            case GENERIC_HASHED:
+                return new Generic(true, 0);
+            case GENERIC_POOLED:
+                return new Generic(false, POOL_CAPACITY);
+            case UNROLLED:
+                return new Unrolled();
+            case OFF_HEAP:
+                return new OffHeap();
+            case JDK_LINKED:
+                return new JdkList(new java.util.LinkedList<>());
+            case JDK_ARRAY:
+                return new JdkList(new ArrayList<>());
+            case JDK_DEQUE:
+                return new JdkDeque();
+            default:
+                throw new IllegalArgumentException("Unknown list implementation: " + impl);
+        }
+    }
+    
+    // Replace the contents with values, in order
+    abstract void fill(int[] values);
+    
+    // insertAtHead followed by deleteFromHead
+    abstract int headInsertDelete(int value);
+    
+    // insertAtTail followed by deleteFromTail
+    abstract int tailInsertDelete(int value);
+    
+    abstract int get(int index);
+    
+    abstract boolean contains(int value);
+    
+    // deleteByValue, then put the value back at the head so the size stays the same
+    abstract boolean deleteAndReinsert(int value);
+    
+    abstract void reverse();
+    
+    // sum, min and max folded into one number so none of them is dead code
+    abstract long sumMinMax();
+    
+    // count, sum, min and max from one statistics pass, folded into one number
+    abstract long summaryStatistics(boolean parallel);
+    
+    // parallelSort() where the list has one (Arrays.parallelSort for ArrayDeque); the
+    // others sort on the calling thread either way
+    abstract void sort(boolean parallel);
+    
+    // Release anything held outside the heap
+    void close() {
+    }
+    
+    private static class Intiger extends ListAdapter {
+        private final IntigerLinkedList list = new IntigerLinkedList();
+        
+        Intiger(boolean hashIndex, int poolCapacity) {
+            if (hashIndex) {
+                list.enableHashIndex();
+            }
+            list.enableNodePool(poolCapacity);
+        }
+        
+        @Override
+        void fill(int[] values) {
+            list.clear();
+            for (int i = values.length - 1; i >= 0; i--) {
+                list.insertAtHead(values[i]);
+            }
+        }
+        
+        @Override
+        int headInsertDelete(int value) {
+            list.insertAtHead(value);
+            return list.deleteFromHead();
+        }
+        
+        @Override
+        int tailInsertDelete(int value) {
+            list.insertAtTail(value);
+            return list.deleteFromTail();
+        }
+        
+        @Override
+        int get(int index) {
+            return list.get(index);
+        }
+        
+        @Override
+        boolean contains(int value) {
+            return list.contains(value);
+        }
+        
+        @Override
+        boolean deleteAndReinsert(int value) {
+            boolean deleted = list.deleteByValue(value);
+            if (deleted) {
+                list.insertAtHead(value);
+            }
+            return deleted;
+        }
+        
+        @Override
+        void reverse() {
+            list.reverse();
+        }
+        
+        @Override
+        long sumMinMax() {
+            return (long) list.sum() + list.findMin() + list.findMax();
+        }
+        
+        @Override
+        long summaryStatistics(boolean parallel) {
+            return fold(parallel ? list.parallelSummaryStatistics() : list.summaryStatistics());
+        }
+        
+        @Override
+        void sort(boolean parallel) {
+            if (parallel) {
+                list.parallelSort();
+            } else {
+                list.sort();
+            }
+        }
+    }
+    
+    private static class Generic extends ListAdapter {
+        private final GenericLinkedList<Integer> list = new GenericLinkedList<>();
+        
+        // Integer for every value 0 .. 2 * size - 1, the range the benchmarks draw from, boxed
+        // once in fill() so inserts and lookups allocate nothing themselves; what the +nodePool
+        // variant saves is then the nodes alone
+        private Integer[] boxed = new Integer[0];
+        
+        Generic(boolean hashIndex, int poolCapacity) {
+            if (hashIndex) {
+                list.enableHashIndex();
+            }
+            list.enableNodePool(poolCapacity);
+        }
+        
+        @Override
+        void fill(int[] values) {
+            list.clear();
+            if (boxed.length != 2 * values.length) {
+                boxed = new Integer[2 * values.length];
+                for (int i = 0; i < boxed.length; i++) {
+                    boxed[i] = i;
+                }
+            }
+            for (int value : values) {
+                list.insertAtTail(box(value));
+            }
+        }
+        
+        private Integer box(int value) {
+            return (value >= 0 && value < boxed.length) ? boxed[value] : Integer.valueOf(value);
+        }
+        
+        @Override
+        int headInsertDelete(int value) {
+            list.insertAtHead(box(value));
+            return list.deleteFromHead();
+        }
+        
+        @Override
+        int tailInsertDelete(int value) {
+            list.insertAtTail(box(value));
+            return list.deleteFromTail();
+        }
+        
+        @Override
+        int get(int index) {
+            return list.get(index);
+        }
+        
+        @Override
+        boolean contains(int value) {
+            return list.contains(box(value));
+        }
+        
+        @Override
+        boolean deleteAndReinsert(int value) {
+            Integer boxedValue = box(value);
+            boolean deleted = list.deleteByValue(boxedValue);
+            if (deleted) {
+                list.insertAtHead(boxedValue);
+            }
+            return deleted;
+        }
+        
+        @Override
+        void reverse() {
+            list.reverse();
+        }
+        
+        @Override
+        long sumMinMax() {
+            return sumMinMaxOf(list);
+        }
+        
+        @Override
+        long summaryStatistics(boolean parallel) {
+            return fold((parallel ? list.parallelStream() : list.stream()).mapToInt(Integer::intValue).summaryStatistics());
+        }
+        
+        @Override
+        void sort(boolean parallel) {
+            list.sort(Comparator.naturalOrder());
+        }
+    }
+    
+    private static class Unrolled extends ListAdapter {
+        private final UnrolledIntigerLinkedList list = new UnrolledIntigerLinkedList();
+        
+        @Override
+        void fill(int[] values) {
+            list.clear();
+            for (int value : values) {
+                list.insertAtTail(value);
+            }
+        }
+        
+        @Override
+        int headInsertDelete(int value) {
+            list.insertAtHead(value);
+            return list.deleteFromHead();
+        }
+        
+        @Override
+        int tailInsertDelete(int value) {
+            list.insertAtTail(value);
+            return list.deleteFromTail();
+        }
+        
+        @Override
+        int get(int index) {
+            return list.get(index);
+        }
+        
+        @Override
+        boolean contains(int value) {
+            return list.contains(value);
+        }
+        
+        @Override
+        boolean deleteAndReinsert(int value) {
+            boolean deleted = list.deleteByValue(value);
+            if (deleted) {
+                list.insertAtHead(value);
+            }
+            return deleted;
+        }
+        
+        @Override
+        void reverse() {
+            list.reverse();
+        }
+        
+        @Override
+        long sumMinMax() {
+            return (long) list.sum() + list.findMin() + list.findMax();
+        }
+        
+        @Override
+        long summaryStatistics(boolean parallel) {
+            return fold(parallel ? list.parallelSummaryStatistics() : list.summaryStatistics());
+        }
+        
+        @Override
+        void sort(boolean parallel) {
+            list.sort();
+        }
+    }
+    
+    private static class OffHeap extends ListAdapter {
+        private final OffHeapIntigerLinkedList list = new OffHeapIntigerLinkedList();
+        
+        @Override
+        void fill(int[] values) {
+            list.clear();
+            list.ensureCapacity(values.length + 1);
+            for (int value : values) {
+                list.insertAtTail(value);
+            }
+        }
+        
+        @Override
+        int headInsertDelete(int value) {
+            list.insertAtHead(value);
+            return list.deleteFromHead();
+        }
+        
+        @Override
+        int tailInsertDelete(int value) {
+            list.insertAtTail(value);
+            return list.deleteFromTail();
+        }
+        
+        @Override
+        int get(int index) {
+            return list.get(index);
+        }
+        
+        @Override
+        boolean contains(int value) {
+            return list.contains(value);
+        }
+        
+        @Override
+        boolean deleteAndReinsert(int value) {
+            boolean deleted = list.deleteByValue(value);
+            if (deleted) {
+                list.insertAtHead(value);
+            }
+            return deleted;
+        }
+        
+        @Override
+        void reverse() {
+            list.reverse();
+        }
+        
+        @Override
+        long sumMinMax() {
+            return (long) list.sum() + list.findMin() + list.findMax();
+        }
+        
+        // No statistics method of its own: three separate passes, like a caller would do
+        @Override
+        long summaryStatistics(boolean parallel) {
+            return list.size() + sumMinMax();
+        }
+        
+        @Override
+        void sort(boolean parallel) {
+            list.sort();
+        }
+        
+        @Override
+        void close() {
+            list.close();
+        }
+    }
+    
+    // java.util.LinkedList and ArrayList through the List interface
+    private static class JdkList extends ListAdapter {
+        private final List<Integer> list;
+        
+        JdkList(List<Integer> list) {
+            this.list = list;
+        }
+        
+        @Override
+        void fill(int[] values) {
+            list.clear();
+            for (int value : values) {
+                list.add(value);
+            }
+        }
+        
+        @Override
+        int headInsertDelete(int value) {
+            list.add(0, value);
+            return list.remove(0);
+        }
+        
+        @Override
+        int tailInsertDelete(int value) {
+            list.add(value);
+            return list.remove(list.size() - 1);
+        }
+        
+        @Override
+        int get(int index) {
+            return list.get(index);
+        }
+        
+        @Override
+        boolean contains(int value) {
+            return list.contains(value);
+        }
+        
+        @Override
+        boolean deleteAndReinsert(int value) {
+            boolean deleted = list.remove(Integer.valueOf(value));
+            if (deleted) {
+                list.add(0, value);
+            }
+            return deleted;
+        }
+        
+        @Override
+        void reverse() {
+            Collections.reverse(list);
+        }
+        
+        @Override
+        long sumMinMax() {
+            return sumMinMaxOf(list);
+        }
+        
+        @Override
+        long summaryStatistics(boolean parallel) {
+            return fold((parallel ? list.parallelStream() : list.stream()).mapToInt(Integer::intValue).summaryStatistics());
+        }
+        
+        @Override
+        void sort(boolean parallel) {
+            list.sort(null);
+        }
+    }
+    
+    // ArrayDeque has no indexed access or sort; those fall back to what a caller would do
+    private static class JdkDeque extends ListAdapter {
+        private ArrayDeque<Integer> deque = new ArrayDeque<>();
+        
+        @Override
+        void fill(int[] values) {
+            deque.clear();
+            for (int value : values) {
+                deque.addLast(value);
+            }
+        }
+        
+        @Override
+        int headInsertDelete(int value) {
+            deque.addFirst(value);
+            return deque.removeFirst();
+        }
+        
+        @Override
+        int tailInsertDelete(int value) {
+            deque.addLast(value);
+            return deque.removeLast();
+        }
+        
+        @Override
+        int get(int index) {
+            Iterator<Integer> iterator = deque.iterator();
+            for (int i = 0; i < index; i++) {
+                iterator.next();
+            }
+            return iterator.next();
+        }
+        
+        @Override
+        boolean contains(int value) {
+            return deque.contains(value);
+        }
+        
+        @Override
+        boolean deleteAndReinsert(int value) {
+            boolean deleted = deque.removeFirstOccurrence(value);
+            if (deleted) {
+                deque.addFirst(value);
+            }
+            return deleted;
+        }
+        
+        @Override
+        void reverse() {
+            ArrayDeque<Integer> reversed = new ArrayDeque<>(deque.size());
+            for (Iterator<Integer> it = deque.descendingIterator(); it.hasNext(); ) {
+                reversed.addLast(it.next());
+            }
+            deque = reversed;
+        }
+        
+        @Override
+        long sumMinMax() {
+            return sumMinMaxOf(deque);
+        }
+        
+        @Override
+        long summaryStatistics(boolean parallel) {
+            return fold((parallel ? deque.parallelStream() : deque.stream()).mapToInt(Integer::intValue).summaryStatistics());
+        }
+        
+        @Override
+        void sort(boolean parallel) {
+            Integer[] values = deque.toArray(new Integer[0]);
+            if (parallel) {
+                Arrays.parallelSort(values);
+            } else {
+                Arrays.sort(values);
+            }
+            deque.clear();
+            deque.addAll(Arrays.asList(values));
+        }
+    }
+    
+    private static long fold(IntSummaryStatistics statistics) {
+        return statistics.getCount() + statistics.getSum() + statistics.getMin() + statistics.getMax();
+    }
+    
+    private static long sumMinMaxOf(Iterable<Integer> values) {
+        long sum = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int value : values) {
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return sum + min + max;
+    }
+}
@@ -0,0 +1,100 @@
+package LinkedList.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Cost of the optional list metrics (ListMetrics). The *Off benchmarks run in a JVM without
+// -Dlinkedlist.metrics, where the instrumentation should compile away completely, so they
+// should match the same operations in LinkedListBenchmark; the *On benchmarks fork a JVM
+// with metrics switched on, to show what recording costs per operation.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class MetricsBenchmark {
+    
+    private static final String METRICS_ON = "-Dlinkedlist.metrics=true";
+    private static final int RANDOM_COUNT = 1 << 10;
+    
+    @Param({"1000"})
+    public int size;
+    
+    @Param({ListAdapter.INTIGER, ListAdapter.GENERIC})
+    public String impl;
+    
+    private ListAdapter list;
+    private int[] randomIndices;
+    private int cursor;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        list = ListAdapter.create(impl);
+        list.fill(LinkedListBenchmark.shuffledRange(size, random));
+        
+        randomIndices = new int[RANDOM_COUNT];
+        for (int i = 0; i < RANDOM_COUNT; i++) {
+            randomIndices[i] = random.nextInt(size);
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        list.close();
+    }
+    
+    @Benchmark
+    public int headInsertOff() {
+        return list.headInsertDelete(nextIndex());
+    }
+    
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", METRICS_ON})
+    public int headInsertOn() {
+        return list.headInsertDelete(nextIndex());
+    }
+    
+    @Benchmark
+    public int indexedGetOff() {
+        return list.get(nextIndex());
+    }
+    
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", METRICS_ON})
+    public int indexedGetOn() {
+        return list.get(nextIndex());
+    }
+    
+    // Every value is in the list, so this scans half of it on average
+    @Benchmark
+    public boolean containsOff() {
+        return list.contains(nextIndex());
+    }
+    
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", METRICS_ON})
+    public boolean containsOn() {
+        return list.contains(nextIndex());
+    }
+    
+    private int nextIndex() {
+        cursor = (cursor + 1) & (RANDOM_COUNT - 1);
+        return randomIndices[cursor];
+    }
+}
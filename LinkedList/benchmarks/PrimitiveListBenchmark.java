@@ -0,0 +1,233 @@
+package LinkedList.benchmarks;
+
+import LinkedList.DoubleLinkedList;
+import LinkedList.GenericLinkedList;
+import LinkedList.LongLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// LongLinkedList and DoubleLinkedList against GenericLinkedList<Long> and
+// GenericLinkedList<Double> holding the same values: millisecond timestamps for the long
+// lists and scores in steps of 0.5 for the double ones, in shuffled order. The generic lists
+// box on every insert, as they would when fed from primitive data, and unbox on every read.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class PrimitiveListBenchmark {
+    
+    static final String LONG = "LongLinkedList";
+    static final String GENERIC_LONG = "GenericLinkedList<Long>";
+    static final String DOUBLE = "DoubleLinkedList";
+    static final String GENERIC_DOUBLE = "GenericLinkedList<Double>";
+    
+    private static final int RANDOM_COUNT = 1 << 10;
+    
+    // First timestamp of the long lists (2023-11-14), far outside the Long cache
+    private static final long EPOCH_MILLIS = 1_700_000_000_000L;
+    
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+    
+    @Param({LONG, GENERIC_LONG, DOUBLE, GENERIC_DOUBLE})
+    public String impl;
+    
+    private PrimitiveList list;
+    private int[] randomKeys;
+    private int cursor;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (impl) {
+            case LONG:
+                list = new Longs();
+                break;
+            case GENERIC_LONG:
+                list = new BoxedLongs();
+                break;
+            case DOUBLE:
+                list = new Doubles();
+                break;
+            case GENERIC_DOUBLE:
+                list = new BoxedDoubles();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown list implementation: " + impl);
+        }
+        
+        SplittableRandom random = new SplittableRandom(42);
+        for (int key : LinkedListBenchmark.shuffledRange(size, random)) {
+            list.insertAtTail(key);
+        }
+        
+        randomKeys = new int[RANDOM_COUNT];
+        for (int i = 0; i < RANDOM_COUNT; i++) {
+            // Half of the searches miss: keys are drawn from twice the stored range
+            randomKeys[i] = random.nextInt(2 * size);
+        }
+    }
+    
+    @Benchmark
+    public int search() {
+        return list.search(nextKey());
+    }
+    
+    @Benchmark
+    public double sum() {
+        return list.sum();
+    }
+    
+    // insertAtHead followed by deleteFromHead, so the list stays the same size
+    @Benchmark
+    public double headInsert() {
+        return list.headInsertDelete(nextKey());
+    }
+    
+    private int nextKey() {
+        cursor = (cursor + 1) & (RANDOM_COUNT - 1);
+        return randomKeys[cursor];
+    }
+    
+    // The lists take a key and store the value it stands for, so every implementation
+    // sees the same sequence of operations
+    private interface PrimitiveList {
+        void insertAtTail(int key);
+        
+        int search(int key);
+        
+        double sum();
+        
+        double headInsertDelete(int key);
+    }
+    
+    private static long timestamp(int key) {
+        return EPOCH_MILLIS + key * 1000L;
+    }
+    
+    private static double score(int key) {
+        return key * 0.5;
+    }
+    
+    private static class Longs implements PrimitiveList {
+        private final LongLinkedList list = new LongLinkedList();
+        
+        @Override
+        public void insertAtTail(int key) {
+            list.insertAtTail(timestamp(key));
+        }
+        
+        @Override
+        public int search(int key) {
+            return list.search(timestamp(key));
+        }
+        
+        @Override
+        public double sum() {
+            return list.sum();
+        }
+        
+        @Override
+        public double headInsertDelete(int key) {
+            list.insertAtHead(timestamp(key));
+            return list.deleteFromHead();
+        }
+    }
+    
+    private static class BoxedLongs implements PrimitiveList {
+        private final GenericLinkedList<Long> list = new GenericLinkedList<>();
+        
+        @Override
+        public void insertAtTail(int key) {
+            list.insertAtTail(timestamp(key));
+        }
+        
+        @Override
+        public int search(int key) {
+            return list.search(timestamp(key));
+        }
+        
+        @Override
+        public double sum() {
+            long sum = 0;
+            for (Long value : list) {
+                sum += value;
+            }
+            return sum;
+        }
+        
+        @Override
+        public double headInsertDelete(int key) {
+            list.insertAtHead(timestamp(key));
+            return list.deleteFromHead();
+        }
+    }
+    
+    private static class Doubles implements PrimitiveList {
+        private final DoubleLinkedList list = new DoubleLinkedList();
+        
+        @Override
+        public void insertAtTail(int key) {
+            list.insertAtTail(score(key));
+        }
+        
+        @Override
+        public int search(int key) {
+            return list.search(score(key));
+        }
+        
+        @Override
+        public double sum() {
+            return list.sum();
+        }
+        
+        @Override
+        public double headInsertDelete(int key) {
+            list.insertAtHead(score(key));
+            return list.deleteFromHead();
+        }
+    }
+    
+    private static class BoxedDoubles implements PrimitiveList {
+        private final GenericLinkedList<Double> list = new GenericLinkedList<>();
+        
+        @Override
+        public void insertAtTail(int key) {
+            list.insertAtTail(score(key));
+        }
+        
+        @Override
+        public int search(int key) {
+            return list.search(score(key));
+        }
+        
+        @Override
+        public double sum() {
+            double sum = 0;
+            for (Double value : list) {
+                sum += value;
+            }
+            return sum;
+        }
+        
+        @Override
+        public double headInsertDelete(int key) {
+            list.insertAtHead(score(key));
+            return list.deleteFromHead();
+        }
+    }
+}
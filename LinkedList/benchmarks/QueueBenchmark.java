@@ -0,0 +1,188 @@
+package LinkedList.benchmarks;
+
+import LinkedList.ConcurrentGenericQueue;
+import LinkedList.GenericLinkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+// Work-queue throughput with every thread acting as both producer and consumer:
+// each invocation puts elements at the tail and takes the same number from the head,
+// so the queue stays small. Change the thread count with -t (default 16).
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class QueueBenchmark {
+    
+    static final String LOCK_FREE = "ConcurrentGenericQueue";
+    static final String LOCKED = "synchronized GenericLinkedList";
+    static final String JDK_QUEUE = "java.util.concurrent.ConcurrentLinkedQueue";
+    
+    private static final Integer ELEMENT = 42;
+    private static final int BATCH = 64;
+    
+    @Param({LOCK_FREE, LOCKED, JDK_QUEUE})
+    public String impl;
+    
+    private WorkQueue queue;
+    
+    @Setup
+    public void setUp() {
+        switch (impl) {
+            case LOCK_FREE:
+                queue = new LockFree();
+                break;
+            case LOCKED:
+                queue = new Locked();
+                break;
+            case JDK_QUEUE:
+                queue = new JdkQueue();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown queue implementation: " + impl);
+        }
+    }
+    
+    // Per-thread buffers for the batched benchmark
+    @State(Scope.Thread)
+    public static class Batch {
+        final List<Integer> offered = new ArrayList<>();
+        final List<Integer> drained = new ArrayList<>();
+        
+        @Setup
+        public void setUp() {
+            for (int i = 0; i < BATCH; i++) {
+                offered.add(ELEMENT);
+            }
+        }
+    }
+    
+    @Benchmark
+    public Integer insertThenDelete() {
+        queue.insertAtTail(ELEMENT);
+        return queue.pollFromHead();
+    }
+    
+    // Counts as one operation per batch of BATCH elements
+    @Benchmark
+    public int offerAllThenDrain(Batch batch) {
+        batch.drained.clear();
+        queue.offerAll(batch.offered);
+        return queue.drainTo(batch.drained, BATCH);
+    }
+    
+    private interface WorkQueue {
+        void insertAtTail(Integer value);
+        
+        Integer pollFromHead();
+        
+        void offerAll(List<Integer> values);
+        
+        int drainTo(List<Integer> sink, int max);
+    }
+    
+    private static class LockFree implements WorkQueue {
+        private final ConcurrentGenericQueue<Integer> queue = new ConcurrentGenericQueue<>();
+        
+        @Override
+        public void insertAtTail(Integer value) {
+            queue.insertAtTail(value);
+        }
+        
+        @Override
+        public Integer pollFromHead() {
+            return queue.pollFromHead();
+        }
+        
+        @Override
+        public void offerAll(List<Integer> values) {
+            queue.offerAll(values);
+        }
+        
+        @Override
+        public int drainTo(List<Integer> sink, int max) {
+            return queue.drainTo(sink, max);
+        }
+    }
+    
+    // What callers did before: one lock around the whole list
+    private static class Locked implements WorkQueue {
+        private final GenericLinkedList<Integer> list = new GenericLinkedList<>();
+        
+        @Override
+        public synchronized void insertAtTail(Integer value) {
+            list.insertAtTail(value);
+        }
+        
+        @Override
+        public synchronized Integer pollFromHead() {
+            return list.isEmpty() ? null : list.deleteFromHead();
+        }
+        
+        @Override
+        public synchronized void offerAll(List<Integer> values) {
+            for (Integer value : values) {
+                list.insertAtTail(value);
+            }
+        }
+        
+        @Override
+        public synchronized int drainTo(List<Integer> sink, int max) {
+            int count = 0;
+            while (count < max && !list.isEmpty()) {
+                sink.add(list.deleteFromHead());
+                count++;
+            }
+            return count;
+        }
+    }
+    
+    private static class JdkQueue implements WorkQueue {
+        private final ConcurrentLinkedQueue<Integer> queue = new ConcurrentLinkedQueue<>();
+        
+        @Override
+        public void insertAtTail(Integer value) {
+            queue.offer(value);
+        }
+        
+        @Override
+        public Integer pollFromHead() {
+            return queue.poll();
+        }
+        
+        @Override
+        public void offerAll(List<Integer> values) {
+            queue.addAll(values);
+        }
+        
+        @Override
+        public int drainTo(List<Integer> sink, int max) {
+            int count = 0;
+            Integer value;
+            while (count < max && (value = queue.poll()) != null) {
+                sink.add(value);
+                count++;
+            }
+            return count;
+        }
+    }
+}
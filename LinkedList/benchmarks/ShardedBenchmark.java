@@ -0,0 +1,116 @@
+package LinkedList.benchmarks;
+
+import LinkedList.IntigerLinkedList;
+import LinkedList.ShardedIntigerLinkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// A shared event buffer: several threads append to the same list while one reporter thread
+// keeps draining it (into a list of its own, which it then clears), so the buffer stays
+// small. The append score is the one to compare. Change the number of appenders with
+// -tg, for example -tg 31,1 (default 7 appenders); with the sharded list the append
+// throughput should grow with the number of appenders up to the number of cores.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ShardedBenchmark {
+    
+    static final String SHARDED = "ShardedIntigerLinkedList";
+    static final String SYNCHRONIZED = "synchronized IntigerLinkedList";
+    
+    @Param({SHARDED, SYNCHRONIZED})
+    public String impl;
+    
+    private EventBuffer buffer;
+    
+    // The reporter's own list
+    @State(Scope.Thread)
+    public static class Sink {
+        final IntigerLinkedList drained = new IntigerLinkedList();
+    }
+    
+    @Setup(Level.Iteration)
+    public void setUp() {
+        switch (impl) {
+            case SHARDED:
+                buffer = new Sharded();
+                break;
+            case SYNCHRONIZED:
+                buffer = new Synchronized();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown list implementation: " + impl);
+        }
+    }
+    
+    @Benchmark
+    @Group("buffer")
+    @GroupThreads(7)
+    public void append() {
+        buffer.insertAtTail(42);
+    }
+    
+    @Benchmark
+    @Group("buffer")
+    @GroupThreads(1)
+    public int drain(Sink sink) {
+        int drained = buffer.drainTo(sink.drained);
+        sink.drained.clear();
+        return drained;
+    }
+    
+    private interface EventBuffer {
+        void insertAtTail(int value);
+        
+        int drainTo(IntigerLinkedList sink);
+    }
+    
+    private static class Sharded implements EventBuffer {
+        private final ShardedIntigerLinkedList list = new ShardedIntigerLinkedList();
+        
+        @Override
+        public void insertAtTail(int value) {
+            list.insertAtTail(value);
+        }
+        
+        @Override
+        public int drainTo(IntigerLinkedList sink) {
+            return list.drainTo(sink);
+        }
+    }
+    
+    // What callers did before: one lock around the whole list
+    private static class Synchronized implements EventBuffer {
+        private final IntigerLinkedList list = new IntigerLinkedList();
+        
+        @Override
+        public synchronized void insertAtTail(int value) {
+            list.insertAtTail(value);
+        }
+        
+        @Override
+        public synchronized int drainTo(IntigerLinkedList sink) {
+            int drained = list.size();
+            sink.appendAll(list);
+            return drained;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package LinkedList.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Sorting a shuffled list. Every invocation needs unsorted input, so the list is
+// refilled before each call; that refill is not part of the measured time.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class SortBenchmark {
+    
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+    
+    @Param({
+        ListAdapter.INTIGER,
+        ListAdapter.GENERIC,
+        ListAdapter.UNROLLED,
+        ListAdapter.OFF_HEAP,
+        ListAdapter.JDK_LINKED,
+        ListAdapter.JDK_ARRAY,
+        ListAdapter.JDK_DEQUE
+    })
+    public String impl;
+    
+    private ListAdapter list;
+    private int[] values;
+    
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        list = ListAdapter.create(impl);
+        values = LinkedListBenchmark.shuffledRange(size, new SplittableRandom(42));
+    }
+    
+    @Setup(Level.Iteration)
+    public void refill() {
+        list.fill(values);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        list.close();
+    }
+    
+    @Benchmark
+    public void sort() {
+        list.sort(false);
+    }
+    
+    @Benchmark
+    public void parallelSort() {
+        list.sort(true);
+    }
+}
@@ -0,0 +1,107 @@
+package LinkedList.benchmarks;
+
+import LinkedList.IntigerLinkedList;
+import LinkedList.SortedIntigerLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.PrimitiveIterator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// SortedIntigerLinkedList against an IntigerLinkedList holding the same values in sorted
+// order, which has to scan for them. The list holds 0, 2, 4, ... so half of the searched
+// values are misses; each range covers about 1% of the list.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class SortedListBenchmark {
+    
+    private static final int RANDOM_COUNT = 1 << 10;
+    
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+    
+    private SortedIntigerLinkedList sorted;
+    private IntigerLinkedList plain;
+    private int[] randomValues;
+    private int rangeLength;
+    private int cursor;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        sorted = new SortedIntigerLinkedList();
+        plain = new IntigerLinkedList();
+        for (int i = 0; i < size; i++) {
+            sorted.insertSorted(2 * i);
+            plain.insertAtTail(2 * i);
+        }
+        
+        SplittableRandom random = new SplittableRandom(42);
+        randomValues = new int[RANDOM_COUNT];
+        for (int i = 0; i < RANDOM_COUNT; i++) {
+            randomValues[i] = random.nextInt(2 * size);
+        }
+        rangeLength = Math.max(2, size / 50);
+    }
+    
+    @Benchmark
+    public int sortedSearch() {
+        return sorted.search(nextValue());
+    }
+    
+    @Benchmark
+    public int linearSearch() {
+        return plain.search(nextValue());
+    }
+    
+    @Benchmark
+    public long sortedRangeSum() {
+        int lo = nextValue();
+        return sorted.rangeSum(lo, lo + rangeLength);
+    }
+    
+    // Stops at the first value past the range, as it would on any sorted list
+    @Benchmark
+    public long linearRangeSum() {
+        int lo = nextValue();
+        int hi = lo + rangeLength;
+        long sum = 0;
+        for (PrimitiveIterator.OfInt it = plain.iterator(); it.hasNext(); ) {
+            int value = it.nextInt();
+            if (value > hi) {
+                break;
+            }
+            if (value >= lo) {
+                sum += value;
+            }
+        }
+        return sum;
+    }
+    
+    // insertSorted followed by deleteByValue, so the list stays the same size
+    @Benchmark
+    public boolean insertSortedThenDelete() {
+        int value = nextValue() | 1;
+        sorted.insertSorted(value);
+        return sorted.deleteByValue(value);
+    }
+    
+    private int nextValue() {
+        cursor = (cursor + 1) & (RANDOM_COUNT - 1);
+        return randomValues[cursor];
+    }
+}
@@ -0,0 +1,182 @@
+package LinkedList.templates;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Generates IntigerLinkedList, LongLinkedList and DoubleLinkedList (and their list iterators)
+// from the templates next to this file, so the three lists cannot drift apart. Change the
+// template, never the generated files, then run from the repository root:
+//
+//   java LinkedList/templates/GeneratePrimitiveLists.java           rewrite the generated files
+//   java LinkedList/templates/GeneratePrimitiveLists.java --check   fail if any is out of date
+//
+// Template syntax:
+//
+//   $List$ $type$ $Type$ $TYPE$     the class name, the primitive and its name as in
+//                                   IntStream or nextDouble, and as in SnapshotWriter.KIND_INT
+//   $Boxed$                         the wrapper class (Integer, Long, Double)
+//   $key$ $Key$                     the type of $bits(a)$ and its name as in
+//                                   IntHashSet: int for int, long for long and double
+//   $eq(a, b)$ $ne(a, b)$           equality as the boxed type's equals sees it (doubles
+//                                   compare by bits, so NaN equals NaN and 0.0 is not -0.0)
+//   $less(a, b)$                    order as the boxed type's compareTo sees it
+//   $bits(a)$                       the value as a hash key (IntHashSet, LongHashSet, BloomFilter)
+//   $generated$                     the "generated file" header
+//   //#if int  //#else  //#endif    lines for one type only (blocks do not nest)
+//
+// Macro arguments may not contain parentheses.
+public class GeneratePrimitiveLists {
+    
+    private static final Path DIRECTORY = Path.of("LinkedList");
+    private static final Path TEMPLATES = DIRECTORY.resolve("templates");
+    
+    // Each template and the name of the file it becomes
+    private static final String[][] TEMPLATE_OUTPUTS = {
+        {"PrimitiveLinkedList.java.template", "$List$.java"},
+        {"PrimitiveListIterator.java.template", "$Type$ListIterator.java"},
+    };
+    
+    private static final Pattern MACRO = Pattern.compile("\\$(eq|ne|less|bits)\\(([^()]*)\\)\\$");
+    
+    // One primitive type and how the template's placeholders read for it
+    private record Specialization(String type, String list, String boxed, String key,
+            String eq, String ne, String less, String bits) {
+    }
+    
+    private static final List<Specialization> SPECIALIZATIONS = List.of(
+            new Specialization("int", "IntigerLinkedList", "Integer", "int",
+                    "%1$s == %2$s", "%1$s != %2$s", "%1$s < %2$s", "%1$s"),
+            new Specialization("long", "LongLinkedList", "Long", "long",
+                    "%1$s == %2$s", "%1$s != %2$s", "%1$s < %2$s", "%1$s"),
+            new Specialization("double", "DoubleLinkedList", "Double", "long",
+                    "Double.doubleToLongBits(%1$s) == Double.doubleToLongBits(%2$s)",
+                    "Double.doubleToLongBits(%1$s) != Double.doubleToLongBits(%2$s)",
+                    "Double.compare(%1$s, %2$s) < 0",
+                    "Double.doubleToLongBits(%1$s)"));
+    
+    public static void main(String[] args) throws IOException {
+        boolean check = args.length > 0 && args[0].equals("--check");
+        List<Path> stale = new ArrayList<>();
+        
+        for (String[] templateOutput : TEMPLATE_OUTPUTS) {
+            String template = Files.readString(TEMPLATES.resolve(templateOutput[0]), StandardCharsets.UTF_8);
+            for (Specialization specialization : SPECIALIZATIONS) {
+                Path output = DIRECTORY.resolve(substitute(templateOutput[1], specialization));
+                String generated = generate(template, templateOutput[0], specialization);
+                
+                boolean current = Files.exists(output)
+                        && Files.readString(output, StandardCharsets.UTF_8).equals(generated);
+                if (current) {
+                    continue;
+                }
+                stale.add(output);
+                if (!check) {
+                    Files.writeString(output, generated, StandardCharsets.UTF_8);
+                    System.out.println("Generated " + output);
+                }
+            }
+        }
+        
+        if (check && !stale.isEmpty()) {
+            System.err.println("Out of date, regenerate with java LinkedList/templates/GeneratePrimitiveLists.java: "
+                    + stale);
+            System.exit(1);
+        }
+    }
+    
+    private static String generate(String template, String templateName, Specialization specialization) {
+        List<String> lines = new ArrayList<>();
+        String section = null;      // type of the //#if block we are in (null outside one)
+        boolean keep = true;
+        
+        for (String line : template.split("\n", -1)) {
+            String directive = line.trim();
+            if (directive.startsWith("//#if ")) {
+                if (section != null) {
+                    throw new IllegalStateException(templateName + ": nested //#if");
+                }
+                section = directive.substring("//#if ".length()).trim();
+                keep = section.equals(specialization.type());
+            } else if (directive.equals("//#else")) {
+                if (section == null) {
+                    throw new IllegalStateException(templateName + ": //#else outside //#if");
+                }
+                keep = !section.equals(specialization.type());
+            } else if (directive.equals("//#endif")) {
+                if (section == null) {
+                    throw new IllegalStateException(templateName + ": //#endif outside //#if");
+                }
+                section = null;
+                keep = true;
+            } else if (keep) {
+                lines.add(substitute(line, specialization));
+            }
+        }
+        if (section != null) {
+            throw new IllegalStateException(templateName + ": //#if without //#endif");
+        }
+        
+        indentBlankLines(lines);
+        String header = "// Generated from LinkedList/templates/" + templateName + " by GeneratePrimitiveLists.java;\n"
+                + "// edit the template and regenerate instead of changing this file.";
+        return String.join("\n", lines).replace("$generated$", header);
+    }
+    
+    private static String substitute(String text, Specialization specialization) {
+        Matcher macro = MACRO.matcher(text);
+        StringBuilder sb = new StringBuilder();
+        while (macro.find()) {
+            String[] arguments = macro.group(2).split(",\\s*");
+            String format;
+            switch (macro.group(1)) {
+                case "eq":
+                    format = specialization.eq();
+                    break;
+                case "ne":
+                    format = specialization.ne();
+                    break;
+                case "less":
+                    format = specialization.less();
+                    break;
+                default:
+                    format = specialization.bits();
+                    break;
+            }
+            macro.appendReplacement(sb, Matcher.quoteReplacement(String.format(format, (Object[]) arguments)));
+        }
+        macro.appendTail(sb);
+        
+        return sb.toString()
+                .replace("$List$", specialization.list())
+                .replace("$Boxed$", specialization.boxed())
+                .replace("$Type$", capitalize(specialization.type()))
+                .replace("$TYPE$", specialization.type().toUpperCase())
+                .replace("$type$", specialization.type())
+                .replace("$Key$", capitalize(specialization.key()))
+                .replace("$key$", specialization.key());
+    }
+    
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+    
+    // Blank lines carry the indentation of the next line, as in the rest of the sources,
+    // also where a removed //#if block leaves two different neighbours next to each other
+    private static void indentBlankLines(List<String> lines) {
+        String indent = "";
+        for (int i = lines.size() - 1; i >= 0; i--) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                lines.set(i, indent);
+            } else {
+                indent = line.substring(0, line.length() - line.stripLeading().length());
+            }
+        }
+    }
+}